@@ -0,0 +1,36 @@
+package com.food.ordering.system.domain.clock;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Source of the time stamped on domain events. Events keep the {@link Instant} and only build a
+ * {@link ZonedDateTime} in {@link #UTC} when one is asked for, so taking the time does not look up a zone or
+ * allocate a date-time per event. Tests and replays can pass a {@link #fixed(Instant) fixed} clock or any
+ * {@link Clock} instead of the system one.
+ */
+@FunctionalInterface
+public interface DomainClock {
+
+    ZoneId UTC = ZoneId.of("UTC");
+
+    Instant instant();
+
+    static DomainClock system() {
+        return Instant::now;
+    }
+
+    static DomainClock fixed(Instant instant) {
+        return () -> instant;
+    }
+
+    static DomainClock of(Clock clock) {
+        return clock::instant;
+    }
+
+    static ZonedDateTime atUtc(Instant instant) {
+        return instant == null ? null : ZonedDateTime.ofInstant(instant, UTC);
+    }
+}
@@ -1,4 +1,19 @@
 package com.food.ordering.system.domain.entity;
 
+/**
+ * Root of an aggregate, carrying the version it was loaded at. Repositories use the version for optimistic
+ * concurrency: a change is only written if the stored aggregate is still at that version, and the version moves on
+ * with every write.
+ */
 public abstract class AggregateRoot<ID> extends BaseEntity<ID> {
+
+    private long version;
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
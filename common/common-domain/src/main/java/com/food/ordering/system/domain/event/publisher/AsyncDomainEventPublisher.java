@@ -0,0 +1,42 @@
+package com.food.ordering.system.domain.event.publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Publisher whose sends complete later. The returned future completes once the event is acknowledged by the broker,
+ * or exceptionally when it could not be published.
+ * <p>
+ * Unlike {@link DomainEventPublisher} it does not require {@code T} to be a domain event, so services can publish
+ * the immutable payload they copied from the event instead.
+ * <p>
+ * {@link #publish(Object)} waits for the acknowledgement; implementations that are allowed to return earlier
+ * override it.
+ */
+public interface AsyncDomainEventPublisher<T> {
+
+    CompletableFuture<Void> publishAsync(T domainEvent);
+
+    default CompletableFuture<Void> publishAllAsync(List<T> domainEvents) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(domainEvents.size());
+        domainEvents.forEach(domainEvent -> futures.add(publishAsync(domainEvent)));
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    default void publish(T domainEvent) {
+        try {
+            publishAsync(domainEvent).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    default void publishAll(List<T> domainEvents) {
+        domainEvents.forEach(this::publish);
+    }
+}
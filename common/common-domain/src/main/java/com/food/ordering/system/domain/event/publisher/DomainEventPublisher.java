@@ -2,7 +2,13 @@ package com.food.ordering.system.domain.event.publisher;
 
 import com.food.ordering.system.domain.event.DomainEvent;
 
-public interface DomainEventPublisher<T extends DomainEvent> {
+import java.util.List;
+
+public interface DomainEventPublisher<T extends DomainEvent<?>> {
 
     void publish(T domainEvent);
+
+    default void publishAll(List<T> domainEvents) {
+        domainEvents.forEach(this::publish);
+    }
 }
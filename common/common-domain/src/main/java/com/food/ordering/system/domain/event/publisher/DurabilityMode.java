@@ -0,0 +1,17 @@
+package com.food.ordering.system.domain.event.publisher;
+
+/**
+ * How long {@link DomainEventPublisher#publish} blocks its caller.
+ */
+public enum DurabilityMode {
+
+    /**
+     * Returns once the event is handed to the transport; failures only reach the failure handler.
+     */
+    ASYNC,
+
+    /**
+     * Returns once the broker has acknowledged the event, and throws when it could not be published.
+     */
+    ACKNOWLEDGED
+}
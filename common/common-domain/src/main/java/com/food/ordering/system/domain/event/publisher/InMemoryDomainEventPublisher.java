@@ -0,0 +1,41 @@
+package com.food.ordering.system.domain.event.publisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * Keeps published events in a list and acknowledges them right away, for tests and benchmarks. Events matching
+ * {@code failWhen} are not kept and their future fails instead.
+ */
+public class InMemoryDomainEventPublisher<T> implements AsyncDomainEventPublisher<T> {
+
+    private final List<T> published = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile Predicate<T> failWhen = domainEvent -> false;
+
+    @Override
+    public CompletableFuture<Void> publishAsync(T domainEvent) {
+        if (failWhen.test(domainEvent)) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Publishing is failed on purpose"));
+        }
+        published.add(domainEvent);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public void failWhen(Predicate<T> failWhen) {
+        this.failWhen = failWhen;
+    }
+
+    public List<T> getPublished() {
+        synchronized (published) {
+            return new ArrayList<>(published);
+        }
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,97 @@
+package com.food.ordering.system.domain.event.publisher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Sends events through an asynchronous transport without waiting for one acknowledgement before the next send.
+ * <p>
+ * At most {@code maxOutstanding} events are sent and not yet acknowledged; beyond that {@link #publishAsync} blocks
+ * its caller until an acknowledgement arrives, so a slow broker slows the producers down instead of piling events
+ * up in memory. Every failed send is reported to the failure handler, whatever the {@link DurabilityMode}.
+ */
+public class PipelinedDomainEventPublisher<T> implements AsyncDomainEventPublisher<T> {
+
+    private final Function<T, ? extends CompletableFuture<?>> transport;
+
+    private final Semaphore outstanding;
+
+    private final int maxOutstanding;
+
+    private final DurabilityMode durabilityMode;
+
+    private final PublishFailureHandler<T> failureHandler;
+
+    public PipelinedDomainEventPublisher(Function<T, ? extends CompletableFuture<?>> transport,
+                                         int maxOutstanding,
+                                         DurabilityMode durabilityMode,
+                                         PublishFailureHandler<T> failureHandler) {
+        this.transport = transport;
+        this.maxOutstanding = Math.max(1, maxOutstanding);
+        this.outstanding = new Semaphore(this.maxOutstanding);
+        this.durabilityMode = durabilityMode;
+        this.failureHandler = failureHandler;
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(T domainEvent) {
+        try {
+            outstanding.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<?> sent;
+        try {
+            sent = transport.apply(domainEvent);
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        return sent.handle((result, error) -> {
+            outstanding.release();
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                failureHandler.onFailure(domainEvent, cause);
+                throw cause instanceof RuntimeException runtimeException
+                        ? runtimeException : new CompletionException(cause);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void publish(T domainEvent) {
+        CompletableFuture<Void> sent = publishAsync(domainEvent);
+        if (durabilityMode == DurabilityMode.ACKNOWLEDGED) {
+            try {
+                sent.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+    }
+
+    public int outstanding() {
+        return maxOutstanding - outstanding.availablePermits();
+    }
+
+    /**
+     * Waits until every event sent so far is acknowledged or failed.
+     *
+     * @return false when the timeout elapsed first
+     */
+    public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!outstanding.tryAcquire(maxOutstanding, timeout, unit)) {
+            return false;
+        }
+        outstanding.release(maxOutstanding);
+        return true;
+    }
+}
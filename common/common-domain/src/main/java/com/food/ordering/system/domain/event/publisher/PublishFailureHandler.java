@@ -0,0 +1,7 @@
+package com.food.ordering.system.domain.event.publisher;
+
+@FunctionalInterface
+public interface PublishFailureHandler<T> {
+
+    void onFailure(T domainEvent, Throwable cause);
+}
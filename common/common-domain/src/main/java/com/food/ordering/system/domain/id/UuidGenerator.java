@@ -0,0 +1,26 @@
+package com.food.ordering.system.domain.id;
+
+import java.util.UUID;
+
+/**
+ * Source of new entity ids.
+ * <ul>
+ *     <li>{@link #secureRandom()}: random version 4 UUIDs from {@link UUID#randomUUID()}, backed by the shared
+ *     {@code SecureRandom}. Use it for ids that are handed out and must not be guessable.</li>
+ *     <li>{@link #timeOrdered()}: version 7 UUIDs, see {@link TimeOrderedUuidGenerator}. Use it for internal
+ *     primary keys.</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface UuidGenerator {
+
+    UUID generate();
+
+    static UuidGenerator secureRandom() {
+        return UUID::randomUUID;
+    }
+
+    static UuidGenerator timeOrdered() {
+        return TimeOrderedUuidGenerator.INSTANCE;
+    }
+}
@@ -2,39 +2,146 @@ package com.food.ordering.system.domain.valueobject;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
+/**
+ * Monetary amount rounded to two decimals with HALF_EVEN.
+ * <p>
+ * Amounts with a scale between 0 and 2 that fit in a {@code long} are also kept as minor units (cents), and
+ * arithmetic between two such amounts works on the {@code long} directly. The {@link BigDecimal} is then only
+ * created when {@link #getAmount()} is called. Any other amount, or an overflow, falls back to the
+ * {@link BigDecimal} arithmetic, so results are the same as before in every case.
+ */
 public class Money {
 
-    private final BigDecimal amount;
+    private static final int SCALE = 2;
+    private static final long[] CENTS_FACTOR = {100L, 10L, 1L};
+    private static final long MAX_COMPACT_UNSCALED = Long.MAX_VALUE / 100L;
+
+    private BigDecimal amount;
+    private final long cents;
+    private final byte scale;
+    private final boolean compact;
 
     public static final Money ZERO = new Money(BigDecimal.ZERO);
 
     public Money(BigDecimal amount) {
         this.amount = amount;
+        long compactCents = 0L;
+        boolean isCompact = false;
+        if (amount != null && amount.scale() >= 0 && amount.scale() <= SCALE && amount.precision() <= 18) {
+            long unscaled = amount.unscaledValue().longValue();
+            if (Math.abs(unscaled) <= MAX_COMPACT_UNSCALED) {
+                compactCents = unscaled * CENTS_FACTOR[amount.scale()];
+                isCompact = true;
+            }
+        }
+        this.cents = compactCents;
+        this.scale = (byte) (amount != null ? amount.scale() : 0);
+        this.compact = isCompact;
+    }
+
+    private Money(long cents) {
+        this.cents = cents;
+        this.scale = SCALE;
+        this.compact = true;
+    }
+
+    /**
+     * Amount of {@code minorUnits} hundredths, without creating a {@link BigDecimal}.
+     */
+    public static Money ofMinorUnits(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    public static <T> Money sum(List<T> elements, Function<T, Money> mapper) {
+        Total total = new Total();
+        for (int index = 0, size = elements.size(); index < size; index++) {
+            total.add(mapper.apply(elements.get(index)));
+        }
+        return total.get();
     }
 
     public boolean isGreaterThanZero(){
+        if (compact) {
+            return cents > 0;
+        }
         return this.amount != null && this.amount.compareTo(BigDecimal.ZERO) > 0;
     }
 
     public boolean isGreaterThan(Money money){
-        return this.amount != null && this.amount.compareTo(money.getAmount()) > 0;
+        if (compact && money.compact) {
+            return cents > money.cents;
+        }
+        return this.getAmount() != null && this.getAmount().compareTo(money.getAmount()) > 0;
     }
 
     public Money add(Money money){
-        return new Money(setScale(this.amount.add(money.getAmount())));
+        if (compact && money.compact) {
+            long result = cents + money.cents;
+            if (((cents ^ result) & (money.cents ^ result)) >= 0) {
+                return new Money(result);
+            }
+        }
+        return new Money(setScale(this.getAmount().add(money.getAmount())));
     }
 
     public Money subtract(Money money){
-        return new Money(setScale(this.amount.subtract(money.getAmount())));
+        if (compact && money.compact) {
+            long result = cents - money.cents;
+            if (((cents ^ money.cents) & (cents ^ result)) >= 0) {
+                return new Money(result);
+            }
+        }
+        return new Money(setScale(this.getAmount().subtract(money.getAmount())));
     }
 
     public Money multiply(int multiply){
-        return new Money(setScale(this.amount.multiply(new BigDecimal(multiply))));
+        if (compact) {
+            long result = cents * multiply;
+            if (Math.multiplyHigh(cents, multiply) == (result >> 63)) {
+                return new Money(result);
+            }
+        }
+        return new Money(setScale(this.getAmount().multiply(new BigDecimal(multiply))));
+    }
+
+    /**
+     * Same as {@code multiply(multiply).equals(money)} without creating the intermediate result.
+     */
+    public boolean isMultipliedEqualTo(int multiply, Money money) {
+        if (compact && money.compact && money.scale == SCALE) {
+            long result = cents * multiply;
+            if (Math.multiplyHigh(cents, multiply) == (result >> 63)) {
+                return result == money.cents;
+            }
+        }
+        return multiply(multiply).equals(money);
     }
+
+    /**
+     * The amount in hundredths, rounded with HALF_EVEN. Does not allocate for amounts kept as minor units.
+     */
+    public long toMinorUnits() {
+        if (compact) {
+            return cents;
+        }
+        return setScale(getAmount()).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Creates the {@link BigDecimal} of an amount kept as minor units on first use, without locking. Two threads may
+     * each create one, but {@link BigDecimal} is immutable with final fields, so neither sees a partly built value.
+     */
     public BigDecimal getAmount() {
-        return amount;
+        BigDecimal result = amount;
+        if (result == null && compact) {
+            result = BigDecimal.valueOf(cents, SCALE);
+            amount = result;
+        }
+        return result;
     }
 
     @Override
@@ -42,6 +149,9 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
+        if (compact && money.compact) {
+            return cents == money.cents && scale == money.scale;
+        }
         return getAmount().equals(money.getAmount());
     }
 
@@ -50,7 +160,41 @@ public class Money {
         return Objects.hash(getAmount());
     }
 
+    /**
+     * Running total for amounts added one at a time. The total is kept in minor units while every amount added is, so
+     * adding does not allocate, and continues with {@link #add(Money)} after the first amount that is not or on an
+     * overflow. The result is the same as adding the amounts one by one, and {@link #ZERO} if none was added.
+     */
+    public static final class Total {
+
+        private long cents;
+        private Money sum;
+        private boolean empty = true;
+
+        public void add(Money money) {
+            empty = false;
+            if (sum == null) {
+                if (money.compact) {
+                    long result = cents + money.cents;
+                    if (((cents ^ result) & (money.cents ^ result)) >= 0) {
+                        cents = result;
+                        return;
+                    }
+                }
+                sum = new Money(cents);
+            }
+            sum = sum.add(money);
+        }
+
+        public Money get() {
+            if (empty) {
+                return ZERO;
+            }
+            return sum != null ? sum : new Money(cents);
+        }
+    }
+
     private BigDecimal setScale(BigDecimal input){
-        return input.setScale(2, RoundingMode.HALF_EVEN);
+        return input.setScale(SCALE, RoundingMode.HALF_EVEN);
     }
 }
@@ -0,0 +1,101 @@
+package com.food.ordering.system.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoneyTest {
+
+    @Test
+    public void testAddOverflowFallsBackToBigDecimal() {
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        Money sum = max.add(Money.ofMinorUnits(1));
+
+        assertEquals(new BigDecimal("92233720368547758.08"), sum.getAmount());
+        assertEquals(new BigDecimal("92233720368547758.07"), sum.subtract(Money.ofMinorUnits(1)).getAmount());
+        assertEquals(new BigDecimal("-92233720368547758.09"),
+                Money.ofMinorUnits(Long.MIN_VALUE).subtract(Money.ofMinorUnits(1)).getAmount());
+    }
+
+    @Test
+    public void testMultiplyOverflowFallsBackToBigDecimal() {
+        Money half = Money.ofMinorUnits(Long.MAX_VALUE / 2 + 1);
+
+        assertEquals(new BigDecimal("92233720368547758.08"), half.multiply(2).getAmount());
+        assertTrue(half.isMultipliedEqualTo(2, new Money(new BigDecimal("92233720368547758.08"))));
+    }
+
+    @Test
+    public void testSumOverflowFallsBackToBigDecimal() {
+        Money sum = Money.sum(List.of(Money.ofMinorUnits(Long.MAX_VALUE), Money.ofMinorUnits(Long.MAX_VALUE),
+                Money.ofMinorUnits(2)), money -> money);
+
+        assertEquals(new BigDecimal("184467440737095516.16"), sum.getAmount());
+        assertEquals(Money.ZERO, Money.sum(List.<Money>of(), money -> money));
+    }
+
+    @Test
+    public void testEqualsAndHashCodeFollowBigDecimalScale() {
+        Money twoDecimals = new Money(new BigDecimal("10.00"));
+        Money oneDecimal = new Money(new BigDecimal("10.0"));
+        Money threeDecimals = new Money(new BigDecimal("10.000"));
+
+        assertEquals(twoDecimals, Money.ofMinorUnits(1_000));
+        assertEquals(twoDecimals.hashCode(), Money.ofMinorUnits(1_000).hashCode());
+        assertEquals(twoDecimals, new Money(new BigDecimal("5.00")).add(new Money(new BigDecimal("5"))));
+        assertNotEquals(twoDecimals, oneDecimal);
+        assertNotEquals(twoDecimals, threeDecimals);
+        assertNotEquals(oneDecimal, threeDecimals);
+        assertEquals(threeDecimals, new Money(new BigDecimal("10.000")));
+        assertEquals(threeDecimals.hashCode(), new Money(new BigDecimal("10.000")).hashCode());
+        assertEquals(new BigDecimal("10.0").equals(new BigDecimal("10.00")), oneDecimal.equals(twoDecimals));
+    }
+
+    @Test
+    public void testMultiplyRoundsHalfEven() {
+        assertEquals(new BigDecimal("0.12"), new Money(new BigDecimal("0.125")).multiply(1).getAmount());
+        assertEquals(new BigDecimal("0.38"), new Money(new BigDecimal("0.125")).multiply(3).getAmount());
+        assertEquals(new BigDecimal("3.00"), new Money(new BigDecimal("1.5")).multiply(2).getAmount());
+        assertTrue(new Money(new BigDecimal("0.125")).isMultipliedEqualTo(3, new Money(new BigDecimal("0.38"))));
+        assertFalse(new Money(new BigDecimal("1.5")).isMultipliedEqualTo(2, new Money(new BigDecimal("3"))));
+    }
+
+    @Test
+    public void testLazyAmountIsTheSameOnEveryThread() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 1_000; round++) {
+                Money money = Money.ofMinorUnits(12_345L + round);
+                BigDecimal expected = BigDecimal.valueOf(12_345L + round, 2);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<BigDecimal>> amounts = new ArrayList<>(threads);
+                for (int i = 0; i < threads; i++) {
+                    amounts.add(executor.submit(() -> {
+                        start.await();
+                        return money.getAmount();
+                    }));
+                }
+                start.countDown();
+                for (Future<BigDecimal> amount : amounts) {
+                    assertEquals(expected, amount.get(5, TimeUnit.SECONDS));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.application.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.request-execution")
+public class RequestExecutionConfigData {
+
+    private RequestExecutionMode mode = RequestExecutionMode.PLATFORM;
+
+    /**
+     * Connections of the JDBC pool, 0 keeps the spring.datasource.hikari setting. With virtual threads the number of
+     * concurrent requests is no longer capped by Tomcat's thread pool, so this becomes the limit on how many of them
+     * reach the database at once and should match what the database can serve, not the request concurrency.
+     */
+    private int jdbcMaxPoolSize = 0;
+
+    /**
+     * How long a request waits for a pooled connection before failing, null keeps the spring.datasource.hikari
+     * setting. Keeps the queue in front of the pool bounded in time when requests arrive faster than it drains.
+     */
+    private Duration jdbcConnectionTimeout;
+}
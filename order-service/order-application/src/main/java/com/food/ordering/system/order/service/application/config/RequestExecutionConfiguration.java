@@ -0,0 +1,67 @@
+package com.food.ordering.system.order.service.application.config;
+
+import com.food.ordering.system.order.service.domain.concurrent.VirtualThreads;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs the controllers, and the application service calls they make on the request thread, on the thread type
+ * selected by {@code order-service.request-execution.mode}, and sizes the JDBC pool for it.
+ */
+@Slf4j
+@Configuration
+public class RequestExecutionConfiguration {
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "order-service.request-execution", name = "mode", havingValue = "virtual")
+    static class VirtualThreadExecution {
+
+        @Bean(destroyMethod = "shutdown")
+        public ExecutorService virtualThreadRequestExecutor() {
+            log.info("Order requests run on virtual threads");
+            return VirtualThreads.newThreadPerTaskExecutor("order-request-");
+        }
+
+        @Bean
+        public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+                ExecutorService virtualThreadRequestExecutor) {
+            return protocolHandler -> protocolHandler.setExecutor(virtualThreadRequestExecutor);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(HikariDataSource.class)
+    static class JdbcPoolSizing {
+
+        @Bean
+        public static BeanPostProcessor requestExecutionJdbcPoolSizer(
+                ObjectProvider<RequestExecutionConfigData> requestExecutionConfigData) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof HikariDataSource dataSource) {
+                        RequestExecutionConfigData configData = requestExecutionConfigData.getObject();
+                        if (configData.getJdbcMaxPoolSize() > 0) {
+                            dataSource.setMaximumPoolSize(configData.getJdbcMaxPoolSize());
+                        }
+                        if (configData.getJdbcConnectionTimeout() != null) {
+                            dataSource.setConnectionTimeout(configData.getJdbcConnectionTimeout().toMillis());
+                        }
+                        log.info("JDBC pool {} sized to {} connections for {} request execution",
+                                dataSource.getPoolName(), dataSource.getMaximumPoolSize(), configData.getMode());
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
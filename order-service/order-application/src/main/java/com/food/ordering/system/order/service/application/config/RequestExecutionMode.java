@@ -0,0 +1,13 @@
+package com.food.ordering.system.order.service.application.config;
+
+public enum RequestExecutionMode {
+    /**
+     * Requests run on Tomcat's bounded pool of platform threads.
+     */
+    PLATFORM,
+    /**
+     * Every request gets its own virtual thread, so requests blocked on a lookup or the database do not hold an
+     * operating system thread.
+     */
+    VIRTUAL
+}
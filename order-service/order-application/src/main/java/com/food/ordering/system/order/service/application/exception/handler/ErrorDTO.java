@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.application.exception.handler;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ErrorDTO {
+
+    private final String code;
+
+    private final String message;
+}
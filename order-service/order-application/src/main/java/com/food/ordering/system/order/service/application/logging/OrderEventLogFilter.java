@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.application.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.food.ordering.system.order.service.domain.logging.OrderLogMarkers;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples or demotes the per-order log lines marked with {@link OrderLogMarkers#ORDER_EVENT}. As a turbo filter it
+ * runs before logback creates the logging event, so a dropped line is never formatted or queued. Lines without the
+ * marker are left to the rest of the configuration.
+ * <ul>
+ *     <li>{@code sampleRate}: keeps one marked line in {@code sampleRate}, at random; 1 keeps all of them and 0 or
+ *     less drops all of them</li>
+ *     <li>{@code demoted}: keeps marked lines only when their logger is enabled for DEBUG</li>
+ * </ul>
+ */
+public class OrderEventLogFilter extends TurboFilter {
+
+    private int sampleRate = 1;
+
+    private boolean demoted;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (marker != OrderLogMarkers.ORDER_EVENT) {
+            return FilterReply.NEUTRAL;
+        }
+        if (demoted && logger.getEffectiveLevel().levelInt > Level.DEBUG_INT) {
+            return FilterReply.DENY;
+        }
+        if (sampleRate <= 0) {
+            return FilterReply.DENY;
+        }
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public boolean isDemoted() {
+        return demoted;
+    }
+
+    public void setDemoted(boolean demoted) {
+        this.demoted = demoted;
+    }
+}
@@ -0,0 +1,8 @@
+package com.food.ordering.system.order.service.application;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication(scanBasePackages = "com.food.ordering.system.order.service.application")
+public class OrderApplicationTestConfiguration {
+
+}
@@ -0,0 +1,56 @@
+package com.food.ordering.system.order.service.application.config;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.application.OrderApplicationTestConfiguration;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = OrderApplicationTestConfiguration.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "order-service.request-execution.mode=virtual")
+public class RequestExecutionConfigurationTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @MockBean
+    private OrderApplicationService orderApplicationService;
+
+    @Test
+    public void testRequestsRunOnVirtualThreads() {
+        UUID trackingId = UUID.randomUUID();
+        AtomicReference<Thread> requestThread = new AtomicReference<>();
+        when(orderApplicationService.trackOrder(any(TrackOrderQuery.class))).thenAnswer(invocation -> {
+            requestThread.set(Thread.currentThread());
+            return TrackOrderResponse.builder()
+                    .orderTrackingId(trackingId)
+                    .orderStatus(OrderStatus.PAID)
+                    .failureMessages(List.of())
+                    .build();
+        });
+
+        ResponseEntity<String> response = testRestTemplate.getForEntity("/orders/{trackingId}", String.class,
+                trackingId);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(requestThread.get().isVirtual());
+        assertTrue(requestThread.get().getName().startsWith("order-request-"));
+    }
+}
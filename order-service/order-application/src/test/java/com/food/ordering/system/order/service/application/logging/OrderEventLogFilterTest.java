@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.application.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.food.ordering.system.order.service.domain.logging.OrderLogMarkers;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderEventLogFilterTest {
+
+    private final Logger logger = new LoggerContext().getLogger("order");
+    private final OrderEventLogFilter orderEventLogFilter = new OrderEventLogFilter();
+
+    @Test
+    public void testUnmarkedLinesAreLeftAlone() {
+        orderEventLogFilter.setSampleRate(0);
+        orderEventLogFilter.setDemoted(true);
+
+        assertEquals(FilterReply.NEUTRAL, decide(null));
+        assertEquals(FilterReply.NEUTRAL, decide(MarkerFactory.getMarker("OTHER")));
+    }
+
+    @Test
+    public void testMarkedLinesAreSampled() {
+        assertEquals(FilterReply.NEUTRAL, decide(OrderLogMarkers.ORDER_EVENT));
+
+        orderEventLogFilter.setSampleRate(0);
+        assertEquals(FilterReply.DENY, decide(OrderLogMarkers.ORDER_EVENT));
+
+        orderEventLogFilter.setSampleRate(10);
+        int kept = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (decide(OrderLogMarkers.ORDER_EVENT) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+        assertTrue(kept > 700 && kept < 1_300, "kept " + kept + " of 10000");
+    }
+
+    @Test
+    public void testDemotedLinesAreKeptOnlyAtDebug() {
+        orderEventLogFilter.setDemoted(true);
+
+        logger.setLevel(Level.INFO);
+        assertEquals(FilterReply.DENY, decide(OrderLogMarkers.ORDER_EVENT));
+
+        logger.setLevel(Level.DEBUG);
+        assertEquals(FilterReply.NEUTRAL, decide(OrderLogMarkers.ORDER_EVENT));
+    }
+
+    private FilterReply decide(Marker marker) {
+        return orderEventLogFilter.decide(marker, logger, Level.INFO, "Order with id: {} is paid", null, null);
+    }
+}
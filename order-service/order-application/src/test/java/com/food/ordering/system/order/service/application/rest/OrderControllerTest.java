@@ -0,0 +1,102 @@
+package com.food.ordering.system.order.service.application.rest;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.application.OrderApplicationTestConfiguration;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderController.class)
+@ContextConfiguration(classes = OrderApplicationTestConfiguration.class)
+public class OrderControllerTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private static final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrderApplicationService orderApplicationService;
+
+    @Test
+    public void testCreateOrder() throws Exception {
+        UUID trackingId = UUID.randomUUID();
+        when(orderApplicationService.createOrder(any())).thenReturn(CreateOrderResponse.builder()
+                .orderTrackingId(trackingId)
+                .orderStatus(OrderStatus.PENDING)
+                .message("Order Created Successfully")
+                .build());
+
+        mockMvc.perform(post("/orders").contentType(MediaType.APPLICATION_JSON).content(createOrderJson()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderTrackingId").value(trackingId.toString()))
+                .andExpect(jsonPath("$.orderStatus").value("PENDING"));
+
+        ArgumentCaptor<CreateOrderCommand> command = ArgumentCaptor.forClass(CreateOrderCommand.class);
+        verify(orderApplicationService).createOrder(command.capture());
+        assertEquals(CUSTOMER_ID, command.getValue().getCustomerId());
+        assertEquals(new BigDecimal("200.00"), command.getValue().getPrice());
+        assertEquals(3, command.getValue().getItems().get(0).quantity());
+        assertEquals("Paris", command.getValue().getAddress().getCity());
+    }
+
+    @Test
+    public void testCreateOrderRejectedByTheDomain() throws Exception {
+        when(orderApplicationService.createOrder(any()))
+                .thenThrow(new OrderDomainException("Restaurant is currently not active!"));
+
+        mockMvc.perform(post("/orders").contentType(MediaType.APPLICATION_JSON).content(createOrderJson()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Restaurant is currently not active!"));
+    }
+
+    @Test
+    public void testTrackUnknownOrder() throws Exception {
+        UUID trackingId = UUID.randomUUID();
+        when(orderApplicationService.trackOrder(any(TrackOrderQuery.class)))
+                .thenThrow(new OrderNotFoundException("Could not find order with tracking id: " + trackingId));
+
+        mockMvc.perform(get("/orders/{trackingId}", trackingId))
+                .andExpect(status().isNotFound());
+    }
+
+    private String createOrderJson() {
+        return """
+                {
+                  "customerId": "%s",
+                  "restaurantId": "%s",
+                  "price": 200.00,
+                  "items": [
+                    {"productId": "%s", "quantity": 3, "price": 50.00, "subTotal": 150.00},
+                    {"productId": "%s", "quantity": 1, "price": 50.00, "subTotal": 50.00}
+                  ],
+                  "address": {"street": "street_1", "postalCode": "1000AB", "city": "Paris"}
+                }
+                """.formatted(CUSTOMER_ID, RESTAURANT_ID, PRODUCT_ID, PRODUCT_ID);
+    }
+}
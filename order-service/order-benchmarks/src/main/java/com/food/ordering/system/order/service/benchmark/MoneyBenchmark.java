@@ -0,0 +1,89 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int itemCount;
+
+    private Money price;
+    private Money otherPrice;
+    private List<Money> subTotals;
+    private List<BigDecimal> subTotalAmounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        price = new Money(new BigDecimal("12.50"));
+        otherPrice = new Money(new BigDecimal("7.25"));
+        subTotals = new ArrayList<>(itemCount);
+        subTotalAmounts = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal amount = BigDecimal.valueOf(100 + random.nextInt(5_000), 2);
+            subTotals.add(new Money(amount));
+            subTotalAmounts.add(amount);
+        }
+    }
+
+    @Benchmark
+    public Money add() {
+        return price.add(otherPrice);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return price.subtract(otherPrice);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return price.multiply(3);
+    }
+
+    @Benchmark
+    public boolean equalsAfterMultiply() {
+        return price.multiply(3).equals(otherPrice);
+    }
+
+    @Benchmark
+    public boolean isMultipliedEqualTo() {
+        return price.isMultipliedEqualTo(3, otherPrice);
+    }
+
+    @Benchmark
+    public Money sumSubTotals() {
+        return subTotals.stream().reduce(Money.ZERO, Money::add);
+    }
+
+    @Benchmark
+    public Money sumSubTotalsCompact() {
+        return Money.sum(subTotals, subTotal -> subTotal);
+    }
+
+    /**
+     * Baseline with the previous BigDecimal only implementation: one add plus one setScale per item.
+     */
+    @Benchmark
+    public BigDecimal sumSubTotalsBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal subTotal : subTotalAmounts) {
+            total = total.add(subTotal).setScale(2, RoundingMode.HALF_EVEN);
+        }
+        return total;
+    }
+}
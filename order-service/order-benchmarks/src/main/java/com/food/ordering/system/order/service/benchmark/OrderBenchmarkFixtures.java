@@ -0,0 +1,93 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic test data for the benchmarks, seeded so that every run works on the same menus and carts.
+ */
+public final class OrderBenchmarkFixtures {
+
+    public static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    public static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+
+    private static final long SEED = 42L;
+
+    private OrderBenchmarkFixtures() {
+    }
+
+    public static Restaurant restaurant(int productCount) {
+        Random random = new Random(SEED);
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            BigDecimal price = BigDecimal.valueOf(100 + random.nextInt(5_000), 2);
+            products.add(new Product(new ProductId(new UUID(random.nextLong(), random.nextLong())),
+                    "product-" + i, new Money(price)));
+        }
+        return Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(RESTAURANT_ID))
+                .products(products)
+                .active(true)
+                .build();
+    }
+
+    public static CreateOrderCommand createOrderCommand(Restaurant restaurant, int itemCount) {
+        Random random = new Random(SEED);
+        List<Product> products = restaurant.getProducts();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        int[] productIndexes = IntStream.range(0, products.size()).toArray();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            Product product = products.get(nextProductIndex(random, productIndexes, i));
+            int quantity = 1 + random.nextInt(3);
+            BigDecimal price = product.getPrice().getAmount();
+            BigDecimal subTotal = price.multiply(BigDecimal.valueOf(quantity));
+            items.add(OrderItem.builder()
+                    .productId(product.getId().getValue())
+                    .quantity(quantity)
+                    .price(price)
+                    .subTotal(subTotal)
+                    .build());
+            total = total.add(subTotal);
+        }
+        return CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(restaurant.getId().getValue())
+                .price(total)
+                .items(items)
+                .address(OrderAddress.builder()
+                        .street("street_1")
+                        .postalCode("1000AB")
+                        .city("Paris")
+                        .build())
+                .build();
+    }
+
+    /**
+     * Draws the products of the first items without repetition, so orders of up to as many items as the menu has
+     * products pass the duplicate product check, and repeats products after that.
+     */
+    private static int nextProductIndex(Random random, int[] productIndexes, int item) {
+        if (item >= productIndexes.length) {
+            return random.nextInt(productIndexes.length);
+        }
+        int swap = item + random.nextInt(productIndexes.length - item);
+        int index = productIndexes[swap];
+        productIndexes[swap] = productIndexes[item];
+        productIndexes[item] = index;
+        return index;
+    }
+}
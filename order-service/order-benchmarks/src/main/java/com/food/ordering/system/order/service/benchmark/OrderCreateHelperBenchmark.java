@@ -0,0 +1,79 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryCustomerRepository;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryOrderOutboxRepository;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryOrderRepository;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryOrderTrackingRepository;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryRestaurantRepository;
+import com.food.ordering.system.order.service.domain.OrderCreateHelper;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfigData;
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfiguration;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingHelper;
+import com.food.ordering.system.order.service.domain.validation.CreateOrderCommandValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end create order path (concurrent customer and restaurant checks, mapping, validation, save, tracking and
+ * outbox write) against in-memory repositories, so it runs offline and only measures the service code. The lookups
+ * are handed to the same executor the service uses, so their hand-off cost is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderCreateHelperBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    @Param({"100", "10000"})
+    private int productCount;
+
+    private ExecutorService orderLookupExecutor;
+    private OrderCreateHelper orderCreateHelper;
+    private CreateOrderCommand createOrderCommand;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Restaurant restaurant = OrderBenchmarkFixtures.restaurant(productCount);
+        InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+        customerRepository.addCustomer(OrderBenchmarkFixtures.CUSTOMER_ID);
+        InMemoryRestaurantRepository restaurantRepository = new InMemoryRestaurantRepository();
+        restaurantRepository.addRestaurant(restaurant);
+        OrderCreateConfigData orderCreateConfigData = new OrderCreateConfigData();
+        // an order of more items than the menu has products repeats products
+        orderCreateConfigData.setRejectDuplicateProducts(itemCount <= productCount);
+        OrderMetrics orderMetrics = new OrderMetrics(new SimpleMeterRegistry());
+        orderLookupExecutor = new OrderCreateConfiguration().orderLookupExecutor(orderCreateConfigData);
+        orderCreateHelper = new OrderCreateHelper(new OrderDomainServiceImpl(), new InMemoryOrderRepository(),
+                customerRepository, restaurantRepository, new OrderDataMapper(),
+                new OrderOutboxHelper(new InMemoryOrderOutboxRepository()),
+                new OrderTrackingHelper(new InMemoryOrderTrackingRepository()), orderLookupExecutor,
+                orderCreateConfigData, orderMetrics, new CreateOrderCommandValidator(orderCreateConfigData,
+                orderMetrics));
+        createOrderCommand = OrderBenchmarkFixtures.createOrderCommand(restaurant, itemCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        orderLookupExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public OrderCreatedEvent persistOrder() {
+        return orderCreateHelper.persistOrder(orderCreateHelper.initiateOrder(createOrderCommand));
+    }
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDataMapperBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+
+    private CreateOrderCommand createOrderCommand;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        createOrderCommand = OrderBenchmarkFixtures.createOrderCommand(OrderBenchmarkFixtures.restaurant(100), itemCount);
+    }
+
+    @Benchmark
+    public Order createOrderCommandToOrder() {
+        return orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+    }
+}
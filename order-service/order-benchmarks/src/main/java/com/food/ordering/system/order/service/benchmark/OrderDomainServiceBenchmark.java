@@ -0,0 +1,71 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OrderDomainService#validateAndInitiateOrder} alone. Order items are mapped once per trial and
+ * only a fresh {@link Order} shell is built per call, because an order can be initiated a single time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDomainServiceBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int productCount;
+
+    private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+
+    private Restaurant restaurant;
+    private Order template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        restaurant = OrderBenchmarkFixtures.restaurant(productCount);
+        template = new OrderDataMapper().createOrderCommandToOrder(
+                OrderBenchmarkFixtures.createOrderCommand(restaurant, itemCount));
+    }
+
+    @Benchmark
+    public OrderCreatedEvent validateAndInitiateOrder() {
+        return orderDomainService.validateAndInitiateOrder(newOrder(), restaurant);
+    }
+
+    /**
+     * Same as {@link #validateAndInitiateOrder()} with a restaurant loaded per order, so the product index is
+     * built on every call as it would be without a cached restaurant.
+     */
+    @Benchmark
+    public OrderCreatedEvent validateAndInitiateOrderColdMenu() {
+        Restaurant coldRestaurant = Restaurant.Builder.builder()
+                .restaurantId(restaurant.getId())
+                .products(restaurant.getProducts())
+                .active(true)
+                .build();
+        return orderDomainService.validateAndInitiateOrder(newOrder(), coldRestaurant);
+    }
+
+    private Order newOrder() {
+        return Order.Builder.builder()
+                .customerId(template.getCustomerId())
+                .restaurantId(template.getRestaurantId())
+                .deliveryAddres(template.getDeliveryAddres())
+                .price(template.getPrice())
+                .items(template.getItems())
+                .build();
+    }
+}
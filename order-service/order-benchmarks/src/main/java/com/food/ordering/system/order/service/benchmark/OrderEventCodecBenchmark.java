@@ -0,0 +1,172 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.messaging.codec.BinaryReader;
+import com.food.ordering.system.order.service.messaging.codec.BinaryWriter;
+import com.food.ordering.system.order.service.messaging.codec.OrderEventBinaryCodec;
+import com.food.ordering.system.order.service.messaging.codec.SagaResponseBinaryCodec;
+import com.food.ordering.system.order.service.messaging.model.PaymentResponseMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary codecs with Jackson JSON for an order created event and a payment response. The JSON side of
+ * the event ships the whole order the way a plain mapping of the aggregate would: UUIDs as strings, money as
+ * decimals and timestamps as ISO-8601 strings with their zone; the binary side ships the event payload. Encoded
+ * sizes are printed once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderEventCodecBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private final OrderEventBinaryCodec orderEventBinaryCodec = new OrderEventBinaryCodec();
+    private final SagaResponseBinaryCodec sagaResponseBinaryCodec = new SagaResponseBinaryCodec();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BinaryWriter writer = new BinaryWriter();
+
+    private OrderEvent orderEvent;
+    private PaymentResponse paymentResponse;
+    private byte[] orderEventBinary;
+    private byte[] orderEventJson;
+    private byte[] paymentResponseBinary;
+    private byte[] paymentResponseJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Restaurant restaurant = OrderBenchmarkFixtures.restaurant(100);
+        Order order = new OrderDataMapper().createOrderCommandToOrder(
+                OrderBenchmarkFixtures.createOrderCommand(restaurant, itemCount));
+        orderEvent = new OrderDomainServiceImpl().validateAndInitiateOrder(order, restaurant);
+        paymentResponse = PaymentResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(order.getId().getValue().toString())
+                .paymentId(UUID.randomUUID().toString())
+                .customerId(OrderBenchmarkFixtures.CUSTOMER_ID.toString())
+                .price(order.getPrice().getAmount())
+                .createdAt(Instant.now())
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .failureMessages(List.of())
+                .build();
+
+        orderEventBinary = orderEventBinaryCodec.encode(orderEvent.getPayload());
+        orderEventJson = objectMapper.writeValueAsBytes(OrderEventJson.of(orderEvent));
+        sagaResponseBinaryCodec.encode(paymentResponse, writer.reset());
+        paymentResponseBinary = writer.toByteArray();
+        paymentResponseJson = objectMapper.writeValueAsBytes(paymentResponseMessage(paymentResponse));
+        System.out.printf("%n%d items: order created event %d bytes binary, %d bytes JSON; "
+                        + "payment response %d bytes binary, %d bytes JSON%n", itemCount, orderEventBinary.length,
+                orderEventJson.length, paymentResponseBinary.length, paymentResponseJson.length);
+    }
+
+    @Benchmark
+    public int encodeOrderEventBinary() {
+        orderEventBinaryCodec.encode(orderEvent.getPayload(), writer.reset());
+        return writer.size();
+    }
+
+    @Benchmark
+    public byte[] encodeOrderEventJson() throws IOException {
+        return objectMapper.writeValueAsBytes(OrderEventJson.of(orderEvent));
+    }
+
+    @Benchmark
+    public OrderEventPayload decodeOrderEventBinary() {
+        return orderEventBinaryCodec.decode(orderEventBinary);
+    }
+
+    @Benchmark
+    public OrderEventJson decodeOrderEventJson() throws IOException {
+        return objectMapper.readValue(orderEventJson, OrderEventJson.class);
+    }
+
+    @Benchmark
+    public int encodePaymentResponseBinary() {
+        sagaResponseBinaryCodec.encode(paymentResponse, writer.reset());
+        return writer.size();
+    }
+
+    @Benchmark
+    public byte[] encodePaymentResponseJson() throws IOException {
+        return objectMapper.writeValueAsBytes(paymentResponseMessage(paymentResponse));
+    }
+
+    @Benchmark
+    public PaymentResponse decodePaymentResponseBinary() {
+        return sagaResponseBinaryCodec.decodePaymentResponse(new BinaryReader(paymentResponseBinary));
+    }
+
+    @Benchmark
+    public PaymentResponseMessage decodePaymentResponseJson() throws IOException {
+        return objectMapper.readValue(paymentResponseJson, PaymentResponseMessage.class);
+    }
+
+    private static PaymentResponseMessage paymentResponseMessage(PaymentResponse paymentResponse) {
+        return PaymentResponseMessage.builder()
+                .id(paymentResponse.getId())
+                .sagaId(paymentResponse.getSagaId())
+                .orderId(paymentResponse.getOrderId())
+                .paymentId(paymentResponse.getPaymentId())
+                .customerId(paymentResponse.getCustomerId())
+                .price(paymentResponse.getPrice())
+                .createdAt(paymentResponse.getCreatedAt().toEpochMilli())
+                .paymentStatus(paymentResponse.getPaymentStatus().name())
+                .failureMessages(paymentResponse.getFailureMessages())
+                .build();
+    }
+
+    public record OrderEventJson(String type, String createdAt, String orderId, String customerId,
+                                 String restaurantId, String trackingId, String orderStatus, BigDecimal price,
+                                 AddressJson deliveryAddress, List<OrderItemJson> items,
+                                 List<String> failureMessages) {
+
+        static OrderEventJson of(OrderEvent orderEvent) {
+            Order order = orderEvent.getOrder();
+            List<OrderItemJson> items = new ArrayList<>(order.getItems().size());
+            for (OrderItem orderItem : order.getItems()) {
+                items.add(new OrderItemJson(orderItem.getId().getValue(),
+                        orderItem.getProduct().getId().getValue().toString(), orderItem.getProduct().getName(),
+                        orderItem.getQuantity(), orderItem.getPrice().getAmount(),
+                        orderItem.getSubTotal().getAmount()));
+            }
+            return new OrderEventJson(orderEvent.getClass().getSimpleName(), orderEvent.getCreatedAt().toString(),
+                    order.getId().getValue().toString(), order.getCustomerId().getValue().toString(),
+                    order.getRestaurantId().getValue().toString(), order.getTrackingId().getValue().toString(),
+                    order.getOrderStatus().name(), order.getPrice().getAmount(),
+                    new AddressJson(order.getDeliveryAddres().getId().toString(),
+                            order.getDeliveryAddres().getStreet(), order.getDeliveryAddres().getPostalCode(),
+                            order.getDeliveryAddres().getCity()),
+                    items, order.getFailureMessagges());
+        }
+    }
+
+    public record AddressJson(String id, String street, String postalCode, String city) {
+    }
+
+    public record OrderItemJson(long id, String productId, String productName, int quantity, BigDecimal price,
+                                BigDecimal subTotal) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.food.ordering.system.order.service.application.logging.OrderEventLogFilter;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the per-order log line of {@link OrderDomainService#validateAndInitiateOrder} under each logging setup.
+ * Lines are formatted with the console pattern and written to a stream that discards them, so the numbers cover
+ * the logging path up to the I/O.
+ * <ul>
+ *     <li>OFF: the domain logger at WARN, the baseline without the line</li>
+ *     <li>SYNC: the line written on the calling thread, as with the default Spring Boot console appender</li>
+ *     <li>ASYNC: the line queued to an {@link AsyncAppender}, as in order-application</li>
+ *     <li>SAMPLED: ASYNC, with {@link OrderEventLogFilter} keeping one line in 100</li>
+ *     <li>DEMOTED: ASYNC, with {@link OrderEventLogFilter} dropping the line because the logger is at INFO</li>
+ * </ul>
+ * The async appender blocks instead of discarding when its queue is full, so every kept line is written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderLoggingBenchmark {
+
+    private static final String DOMAIN_LOGGER = "com.food.ordering.system.order.service.domain";
+
+    public enum LoggingMode {
+        OFF, SYNC, ASYNC, SAMPLED, DEMOTED
+    }
+
+    @Param({"OFF", "SYNC", "ASYNC", "SAMPLED", "DEMOTED"})
+    private LoggingMode loggingMode;
+
+    private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+
+    private LoggerContext loggerContext;
+    private Logger domainLogger;
+    private Appender<ILoggingEvent> appender;
+    private OrderEventLogFilter orderEventLogFilter;
+    private Restaurant restaurant;
+    private Order template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        restaurant = OrderBenchmarkFixtures.restaurant(10);
+        template = new OrderDataMapper().createOrderCommandToOrder(
+                OrderBenchmarkFixtures.createOrderCommand(restaurant, 1));
+
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        domainLogger = loggerContext.getLogger(DOMAIN_LOGGER);
+        domainLogger.setAdditive(false);
+        domainLogger.setLevel(loggingMode == LoggingMode.OFF
+                ? ch.qos.logback.classic.Level.WARN
+                : ch.qos.logback.classic.Level.INFO);
+        appender = loggingMode == LoggingMode.SYNC ? discardingAppender() : asyncAppender(discardingAppender());
+        domainLogger.addAppender(appender);
+        if (loggingMode == LoggingMode.SAMPLED || loggingMode == LoggingMode.DEMOTED) {
+            orderEventLogFilter = new OrderEventLogFilter();
+            orderEventLogFilter.setSampleRate(loggingMode == LoggingMode.SAMPLED ? 100 : 1);
+            orderEventLogFilter.setDemoted(loggingMode == LoggingMode.DEMOTED);
+            orderEventLogFilter.setContext(loggerContext);
+            orderEventLogFilter.start();
+            loggerContext.addTurboFilter(orderEventLogFilter);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (orderEventLogFilter != null) {
+            loggerContext.getTurboFilterList().remove(orderEventLogFilter);
+            orderEventLogFilter.stop();
+        }
+        domainLogger.detachAppender(appender);
+        appender.stop();
+        domainLogger.setLevel(null);
+        domainLogger.setAdditive(true);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent validateAndInitiateOrder() {
+        return orderDomainService.validateAndInitiateOrder(newOrder(), restaurant);
+    }
+
+    private Order newOrder() {
+        return Order.Builder.builder()
+                .customerId(template.getCustomerId())
+                .restaurantId(template.getRestaurantId())
+                .deliveryAddres(template.getDeliveryAddres())
+                .price(template.getPrice())
+                .items(template.getItems())
+                .build();
+    }
+
+    private Appender<ILoggingEvent> discardingAppender() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level --- [%15.15thread] %-40.40logger{39} : %m%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> outputStreamAppender = new OutputStreamAppender<>();
+        outputStreamAppender.setContext(loggerContext);
+        outputStreamAppender.setEncoder(encoder);
+        outputStreamAppender.setOutputStream(OutputStream.nullOutputStream());
+        outputStreamAppender.start();
+        return outputStreamAppender;
+    }
+
+    private Appender<ILoggingEvent> asyncAppender(Appender<ILoggingEvent> delegate) {
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setIncludeCallerData(false);
+        asyncAppender.addAppender(delegate);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+}
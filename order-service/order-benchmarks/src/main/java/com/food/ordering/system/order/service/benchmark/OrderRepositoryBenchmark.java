@@ -0,0 +1,90 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.dataaccess.order.adapter.OrderRepositoryImpl;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saves new orders through the JDBC adapter into an in-memory H2 database, one order per transaction and in
+ * batches of {@link #BATCH_SIZE} orders. The rows are deleted after every iteration so the tables stay small.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderRepositoryBenchmark {
+
+    private static final int BATCH_SIZE = 32;
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private OrderRepositoryImpl orderRepository;
+    private CreateOrderCommand createOrderCommand;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("order-benchmark-" + UUID.randomUUID())
+                .addScript("classpath:init-schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        orderRepository = new OrderRepositoryImpl(jdbcTemplate, new OrderDataAccessMapper());
+        createOrderCommand = OrderBenchmarkFixtures.createOrderCommand(OrderBenchmarkFixtures.restaurant(100), itemCount);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteOrders() {
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Order save() {
+        Order order = newOrder();
+        return transactionTemplate.execute(status -> orderRepository.save(order));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Order> saveAll() {
+        List<Order> orders = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            orders.add(newOrder());
+        }
+        return transactionTemplate.execute(status -> orderRepository.saveAll(orders));
+    }
+
+    private Order newOrder() {
+        Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        order.initializerOrder();
+        return order;
+    }
+}
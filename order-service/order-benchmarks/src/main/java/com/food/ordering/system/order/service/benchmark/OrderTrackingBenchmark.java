@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryOrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.OrderTrackCommadHandler;
+import com.food.ordering.system.order.service.domain.cache.CachingOrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.config.OrderTrackingCacheConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent tracking polls served from the tracking cache, for {@link #orderCount} recent orders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class OrderTrackingBenchmark {
+
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+
+    @Param({"10000", "100000"})
+    private int orderCount;
+
+    private OrderTrackCommadHandler orderTrackCommadHandler;
+    private TrackOrderQuery[] trackOrderQueries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OrderTrackingCacheConfigData orderTrackingCacheConfigData = new OrderTrackingCacheConfigData();
+        CachingOrderTrackingRepository orderTrackingRepository = new CachingOrderTrackingRepository(
+                new InMemoryOrderTrackingRepository(), orderTrackingCacheConfigData, new SimpleMeterRegistry());
+        trackOrderQueries = new TrackOrderQuery[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            UUID trackingId = UUID.randomUUID();
+            OrderStatus orderStatus = ORDER_STATUSES[i % ORDER_STATUSES.length];
+            orderTrackingRepository.save(OrderTracking.builder()
+                    .trackingId(trackingId)
+                    .orderId(UUID.randomUUID())
+                    .orderStatus(orderStatus)
+                    .failureMessages(orderStatus == OrderStatus.CANCELLED ? List.of("Payment failed") : List.of())
+                    .build());
+            trackOrderQueries[i] = TrackOrderQuery.builder().orderTrackingId(trackingId).build();
+        }
+        orderTrackCommadHandler = new OrderTrackCommadHandler(new OrderDataMapper(), orderTrackingRepository);
+    }
+
+    @Benchmark
+    public TrackOrderResponse trackOrder() {
+        return orderTrackCommadHandler.trackOrder(trackOrderQueries[ThreadLocalRandom.current().nextInt(orderCount)]);
+    }
+}
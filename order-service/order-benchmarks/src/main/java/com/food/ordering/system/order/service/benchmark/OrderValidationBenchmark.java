@@ -0,0 +1,94 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of a catering order of 1,000 items against the restaurant menu.
+ * <ul>
+ *     <li>singlePass: {@link Order#validateOrder(Restaurant)}, which confirms products, checks item prices and sums
+ *     the subtotals in one walk over the items</li>
+ *     <li>multiPass: the previous validation, kept here as the baseline. It makes one walk to confirm products, one
+ *     to check item prices with {@link Money#multiply(int)} and one to sum the subtotals.</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderValidationBenchmark {
+
+    @Param({"1000"})
+    private int itemCount;
+
+    @Param({"1000", "10000"})
+    private int productCount;
+
+    private Restaurant restaurant;
+    private Order template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        restaurant = OrderBenchmarkFixtures.restaurant(productCount);
+        template = new OrderDataMapper().createOrderCommandToOrder(
+                OrderBenchmarkFixtures.createOrderCommand(restaurant, itemCount));
+        restaurant.findProduct(template.getItems().get(0).getProduct().getId());
+    }
+
+    @Benchmark
+    public Order singlePass() {
+        Order order = newOrder();
+        order.validateOrder(restaurant);
+        return order;
+    }
+
+    @Benchmark
+    public Order multiPass() {
+        Order order = newOrder();
+        for (OrderItem orderItem : order.getItems()) {
+            Product product = orderItem.getProduct();
+            Product restaurantProduct = restaurant.findProduct(product.getId());
+            if (restaurantProduct == null) {
+                throw new OrderDomainException("Could not find product with id: " + product.getId().getValue());
+            }
+            product.updateWithConfirmedNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice());
+        }
+        if (!order.getPrice().isGreaterThanZero()) {
+            throw new OrderDomainException("Total price must be gerate than zero!");
+        }
+        for (OrderItem orderItem : order.getItems()) {
+            if (!orderItem.getPrice().isGreaterThanZero()
+                    || !orderItem.getPrice().equals(orderItem.getProduct().getPrice())
+                    || !orderItem.getPrice().multiply(orderItem.getQuantity()).equals(orderItem.getSubTotal())) {
+                throw new OrderDomainException("Order item price: " + orderItem.getPrice().getAmount()
+                        + " is no valid");
+            }
+        }
+        Money orderItemTotal = Money.sum(order.getItems(), OrderItem::getSubTotal);
+        if (!order.getPrice().equals(orderItemTotal)) {
+            throw new OrderDomainException("Total price: " + order.getPrice().getAmount()
+                    + " is no equals to Order items total: " + orderItemTotal.getAmount() + "!");
+        }
+        return order;
+    }
+
+    private Order newOrder() {
+        return Order.Builder.builder()
+                .customerId(template.getCustomerId())
+                .restaurantId(template.getRestaurantId())
+                .deliveryAddres(template.getDeliveryAddres())
+                .price(template.getPrice())
+                .items(template.getItems())
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryOrderOutboxRepository;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryOrderTrackingRepository;
+import com.food.ordering.system.order.service.benchmark.stub.PendingOrderRepository;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.OrderPaymentSaga;
+import com.food.ordering.system.order.service.domain.OrderTransitionHelper;
+import com.food.ordering.system.order.service.domain.PaymentResponseMessageListenerImpl;
+import com.food.ordering.system.order.service.domain.config.OrderTransitionConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingHelper;
+import com.food.ordering.system.order.service.messaging.listener.kafka.PaymentResponseKafkaListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.order.service.messaging.model.PaymentResponseMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payment responses from a polled batch of records to saved orders and outbox messages: decoding, one order lookup,
+ * the pay or cancel transitions and one save per batch. Every tenth response is a failed payment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentResponseBatchBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int batchSize;
+
+    private PaymentResponseKafkaListener paymentResponseKafkaListener;
+    private List<ConsumerRecord<String, byte[]>> records;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Order template = new OrderDataMapper().createOrderCommandToOrder(OrderBenchmarkFixtures.createOrderCommand(
+                OrderBenchmarkFixtures.restaurant(100), 10));
+        PendingOrderRepository orderRepository = new PendingOrderRepository(template);
+        OrderPaymentSaga orderPaymentSaga = new OrderPaymentSaga(new OrderDomainServiceImpl(), orderRepository,
+                new OrderTransitionHelper(orderRepository, new OrderTransitionConfigData()),
+                new OrderTrackingHelper(new InMemoryOrderTrackingRepository()),
+                new OrderOutboxHelper(new InMemoryOrderOutboxRepository()),
+                new OrderMetrics(new SimpleMeterRegistry()));
+        paymentResponseKafkaListener = new PaymentResponseKafkaListener(
+                new PaymentResponseMessageListenerImpl(orderPaymentSaga), new OrderMessagingDataMapper());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        records = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            String orderId = UUID.randomUUID().toString();
+            boolean failed = i % 10 == 9;
+            byte[] payload = objectMapper.writeValueAsBytes(PaymentResponseMessage.builder()
+                    .id(UUID.randomUUID().toString())
+                    .sagaId(UUID.randomUUID().toString())
+                    .orderId(orderId)
+                    .paymentId(UUID.randomUUID().toString())
+                    .customerId(OrderBenchmarkFixtures.CUSTOMER_ID.toString())
+                    .price(template.getPrice().getAmount())
+                    .createdAt(System.currentTimeMillis())
+                    .paymentStatus(failed ? PaymentStatus.FAILED.name() : PaymentStatus.COMPLETED.name())
+                    .failureMessages(failed ? List.of("Insufficient credit") : List.of())
+                    .build());
+            records.add(new ConsumerRecord<>("payment-response", 0, i, orderId, payload));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void receive() {
+        for (int i = 0, batches = 1000 / batchSize; i < batches; i++) {
+            paymentResponseKafkaListener.receive(records);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.domain.id.UuidGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id generation with 32 threads, as under a burst of order creations.
+ * <ul>
+ *     <li>generate: one id from the strategy</li>
+ *     <li>orderIds: the ids of one new order: the order id and the delivery address id from the strategy, and the
+ *     tracking id, which always comes from {@link UuidGenerator#secureRandom()}</li>
+ * </ul>
+ * SECURE_RANDOM is what every id used before. TIME_ORDERED is the generator now used for order, address and outbox
+ * ids. The gap between the two only shows with as many cores as threads. On fewer cores the threads mostly take
+ * turns instead of contending.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class UuidGeneratorBenchmark {
+
+    public enum Strategy {
+        SECURE_RANDOM, TIME_ORDERED
+    }
+
+    @Param({"SECURE_RANDOM", "TIME_ORDERED"})
+    private Strategy strategy;
+
+    private final UuidGenerator trackingIdGenerator = UuidGenerator.secureRandom();
+
+    private UuidGenerator uuidGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        uuidGenerator = strategy == Strategy.SECURE_RANDOM ? UuidGenerator.secureRandom() : UuidGenerator.timeOrdered();
+    }
+
+    @Benchmark
+    public UUID generate() {
+        return uuidGenerator.generate();
+    }
+
+    @Benchmark
+    public void orderIds(Blackhole blackhole) {
+        blackhole.consume(uuidGenerator.generate());
+        blackhole.consume(uuidGenerator.generate());
+        blackhole.consume(trackingIdGenerator.generate());
+    }
+}
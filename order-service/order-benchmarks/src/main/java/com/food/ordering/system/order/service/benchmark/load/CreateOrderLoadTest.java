@@ -0,0 +1,216 @@
+package com.food.ordering.system.order.service.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.order.service.application.config.RequestExecutionMode;
+import com.food.ordering.system.order.service.benchmark.OrderBenchmarkFixtures;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryCustomerRepository;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryOrderOutboxRepository;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryOrderRepository;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryOrderTrackingRepository;
+import com.food.ordering.system.order.service.benchmark.stub.InMemoryRestaurantRepository;
+import com.food.ordering.system.order.service.domain.OrderApplicationServiceImpl;
+import com.food.ordering.system.order.service.domain.OrderCreateCommadHandler;
+import com.food.ordering.system.order.service.domain.OrderCreateHelper;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.OrderTrackCommadHandler;
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfigData;
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfiguration;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingHelper;
+import com.food.ordering.system.order.service.domain.validation.CreateOrderCommandValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test of the create order endpoint with platform and with virtual request threads. For every mode it starts
+ * the REST adapter on a random port, in front of the real create order path whose customer lookup, restaurant lookup
+ * and save each make one round trip to a {@link SimulatedDatabase} (the two lookups concurrently), then sends rounds of {@code concurrency}
+ * simultaneous requests and prints throughput, latency percentiles and the peak number of JVM threads.
+ * <p>
+ * The client and the server share the process, so every concurrent request takes two file descriptors: 10,000
+ * concurrent requests need {@code ulimit -n} above 21,000.
+ * <p>
+ * Usage: {@code java -cp order-service/order-benchmarks/target/benchmarks.jar
+ * com.food.ordering.system.order.service.benchmark.load.CreateOrderLoadTest [--concurrency 1000,2000,5000,10000]
+ * [--modes PLATFORM,VIRTUAL] [--latency-ms 20] [--db-connections 0] [--rounds 3]}
+ * <p>
+ * {@code --db-connections} bounds the simulated JDBC pool, 0 leaves it unbounded.
+ */
+public class CreateOrderLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        int[] concurrencies = Arrays.stream(options.getOrDefault("concurrency", "1000,2000,5000,10000").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+        List<RequestExecutionMode> modes = Arrays.stream(options.getOrDefault("modes", "PLATFORM,VIRTUAL").split(","))
+                .map(RequestExecutionMode::valueOf).toList();
+        long latencyMillis = Long.parseLong(options.getOrDefault("latency-ms", "20"));
+        int dbConnections = Integer.parseInt(options.getOrDefault("db-connections", "0"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "3"));
+        int maxConcurrency = Arrays.stream(concurrencies).max().orElse(0);
+
+        System.out.printf("latency per round trip: %d ms, db connections: %s, rounds: %d%n", latencyMillis,
+                dbConnections > 0 ? dbConnections : "unbounded", rounds);
+        System.out.printf("%-9s %12s %12s %10s %10s %10s %8s %13s%n", "mode", "concurrency", "requests/s",
+                "p50 ms", "p99 ms", "max ms", "errors", "peak threads");
+        for (RequestExecutionMode mode : modes) {
+            try (ConfigurableApplicationContext context = start(mode, maxConcurrency,
+                    new SimulatedDatabase(latencyMillis, dbConnections))) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                HttpClient httpClient = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(30))
+                        .build();
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/orders"))
+                        .header("Content-Type", "application/json")
+                        .timeout(Duration.ofSeconds(120))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(new ObjectMapper().writeValueAsBytes(
+                                OrderBenchmarkFixtures.createOrderCommand(OrderBenchmarkFixtures.restaurant(100),
+                                        3))))
+                        .build();
+                for (int concurrency : concurrencies) {
+                    runRound(httpClient, request, concurrency);
+                    List<RoundResult> results = new ArrayList<>(rounds);
+                    for (int round = 0; round < rounds; round++) {
+                        results.add(runRound(httpClient, request, concurrency));
+                    }
+                    RoundResult median = results.stream()
+                            .sorted((left, right) -> Double.compare(left.throughput(), right.throughput()))
+                            .toList().get(rounds / 2);
+                    System.out.printf("%-9s %12d %12.0f %10.1f %10.1f %10.1f %8d %13d%n", mode, concurrency,
+                            median.throughput(), median.p50Millis(), median.p99Millis(), median.maxMillis(),
+                            median.errors(), median.peakThreads());
+                }
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(RequestExecutionMode mode, int maxConcurrency,
+                                                        SimulatedDatabase database) {
+        OrderApplicationService orderApplicationService = orderApplicationService(database);
+        return new SpringApplicationBuilder(LoadTestApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.max-connections=" + (maxConcurrency + 1_000),
+                        "server.tomcat.accept-count=" + maxConcurrency,
+                        "order-service.request-execution.mode=" + mode.name().toLowerCase())
+                .initializers(context -> context.getBeanFactory()
+                        .registerSingleton("orderApplicationService", orderApplicationService))
+                .logStartupInfo(false)
+                .run();
+    }
+
+    private static OrderApplicationService orderApplicationService(SimulatedDatabase database) {
+        Restaurant restaurant = OrderBenchmarkFixtures.restaurant(100);
+        InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository() {
+            @Override
+            public boolean existsCustomerById(UUID customerId) {
+                database.roundTrip();
+                return super.existsCustomerById(customerId);
+            }
+        };
+        customerRepository.addCustomer(OrderBenchmarkFixtures.CUSTOMER_ID);
+        InMemoryRestaurantRepository restaurantRepository = new InMemoryRestaurantRepository() {
+            @Override
+            public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+                database.roundTrip();
+                return super.findRestaurantInformation(restaurant);
+            }
+        };
+        restaurantRepository.addRestaurant(restaurant);
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository() {
+            @Override
+            public Order save(Order order) {
+                database.roundTrip();
+                return super.save(order);
+            }
+        };
+        OrderDataMapper orderDataMapper = new OrderDataMapper();
+        InMemoryOrderTrackingRepository orderTrackingRepository = new InMemoryOrderTrackingRepository();
+        OrderCreateConfigData orderCreateConfigData = new OrderCreateConfigData();
+        OrderMetrics orderMetrics = new OrderMetrics(new SimpleMeterRegistry());
+        OrderCreateHelper orderCreateHelper = new OrderCreateHelper(new OrderDomainServiceImpl(), orderRepository,
+                customerRepository, restaurantRepository, orderDataMapper,
+                new OrderOutboxHelper(new InMemoryOrderOutboxRepository()),
+                new OrderTrackingHelper(orderTrackingRepository),
+                new OrderCreateConfiguration().orderLookupExecutor(orderCreateConfigData),
+                orderCreateConfigData, orderMetrics, new CreateOrderCommandValidator(orderCreateConfigData,
+                orderMetrics));
+        return new OrderApplicationServiceImpl(
+                new OrderCreateCommadHandler(orderCreateHelper, orderDataMapper,
+                        Validation.buildDefaultValidatorFactory().getValidator()),
+                new OrderTrackCommadHandler(orderDataMapper, orderTrackingRepository));
+    }
+
+    private static RoundResult runRound(HttpClient httpClient, HttpRequest request, int concurrency) {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        threadMXBean.resetPeakThreadCount();
+        long[] latencies = new long[concurrency];
+        AtomicInteger errors = new AtomicInteger();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+        long start = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            int index = i;
+            long sent = System.nanoTime();
+            responses[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (failure != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new RoundResult(concurrency * 1e9 / elapsed, percentileMillis(latencies, 0.50),
+                percentileMillis(latencies, 0.99), latencies[concurrency - 1] / 1e6, errors.get(),
+                threadMXBean.getPeakThreadCount());
+    }
+
+    private static double percentileMillis(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1e6;
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected an option name but got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private record RoundResult(double throughput, double p50Millis, double p99Millis, double maxMillis, int errors,
+                               int peakThreads) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.benchmark.load;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+
+/**
+ * Only the REST adapter of order-application. The application service behind it is registered by
+ * {@link CreateOrderLoadTest}.
+ */
+@SpringBootApplication(scanBasePackages = "com.food.ordering.system.order.service.application",
+        exclude = {DataSourceAutoConfiguration.class, KafkaAutoConfiguration.class})
+public class LoadTestApplication {
+
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.service.benchmark.load;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stands in for the database behind the JDBC adapters: every round trip borrows one of {@code connections} pooled
+ * connections, or none when the pool is unbounded, and blocks the calling thread for {@code latencyMillis}.
+ */
+public class SimulatedDatabase {
+
+    private final long latencyMillis;
+    private final Semaphore connections;
+
+    public SimulatedDatabase(long latencyMillis, int connections) {
+        this.latencyMillis = latencyMillis;
+        this.connections = connections > 0 ? new Semaphore(connections, true) : null;
+    }
+
+    public void roundTrip() {
+        try {
+            if (connections == null) {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+                return;
+            }
+            connections.acquire();
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            } finally {
+                connections.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the database", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.service.benchmark.stub;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+public class InMemoryCustomerRepository implements CustomerRepository {
+
+    private final Map<UUID, Customer> customers = new ConcurrentHashMap<>();
+
+    public void addCustomer(UUID customerId) {
+        Customer customer = new Customer();
+        customer.setId(new CustomerId(customerId));
+        customers.put(customerId, customer);
+    }
+
+    @Override
+    public Optional<Customer> findCustomerById(UUID customerId) {
+        return Optional.ofNullable(customers.get(customerId));
+    }
+
+    @Override
+    public boolean existsCustomerById(UUID customerId) {
+        return customers.containsKey(customerId);
+    }
+
+    @Override
+    public void forEachCustomerId(Consumer<UUID> action) {
+        customers.keySet().forEach(action);
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.benchmark.stub;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts outbox writes without keeping the messages, for the same reason as {@link InMemoryOrderRepository}.
+ */
+public class InMemoryOrderOutboxRepository implements OrderOutboxRepository {
+
+    private final LongAdder savedMessages = new LongAdder();
+
+    @Override
+    public OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage) {
+        savedMessages.increment();
+        return orderOutboxMessage;
+    }
+
+    @Override
+    public List<OrderOutboxMessage> findByOutboxStatus(OutboxStatus outboxStatus, int limit) {
+        return List.of();
+    }
+
+    public long getSavedMessages() {
+        return savedMessages.sum();
+    }
+}
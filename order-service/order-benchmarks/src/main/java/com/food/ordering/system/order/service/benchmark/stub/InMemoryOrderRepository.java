@@ -0,0 +1,56 @@
+package com.food.ordering.system.order.service.benchmark.stub;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps only the last saved order so that long benchmark iterations do not grow the heap and skew the
+ * allocation figures.
+ */
+public class InMemoryOrderRepository implements OrderRepository {
+
+    private final LongAdder savedOrders = new LongAdder();
+
+    private volatile Order lastSavedOrder;
+
+    @Override
+    public Order save(Order order) {
+        lastSavedOrder = order;
+        savedOrders.increment();
+        return order;
+    }
+
+    @Override
+    public boolean saveIfUnchanged(Order order) {
+        order.setVersion(order.getVersion() + 1);
+        save(order);
+        return true;
+    }
+
+    @Override
+    public Optional<Order> findByTrackingId(TrackingId trackingId) {
+        Order order = lastSavedOrder;
+        if (order != null && trackingId.equals(order.getTrackingId())) {
+            return Optional.of(order);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        Order order = lastSavedOrder;
+        if (order != null && orderId.equals(order.getId())) {
+            return Optional.of(order);
+        }
+        return Optional.empty();
+    }
+
+    public long getSavedOrders() {
+        return savedOrders.sum();
+    }
+}
@@ -0,0 +1,30 @@
+package com.food.ordering.system.order.service.benchmark.stub;
+
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.Optional;
+
+/**
+ * Keeps only the last saved tracking entry, for the same reason as {@link InMemoryOrderRepository}.
+ */
+public class InMemoryOrderTrackingRepository implements OrderTrackingRepository {
+
+    private volatile OrderTracking lastSavedOrderTracking;
+
+    @Override
+    public OrderTracking save(OrderTracking orderTracking) {
+        lastSavedOrderTracking = orderTracking;
+        return orderTracking;
+    }
+
+    @Override
+    public Optional<OrderTracking> findByTrackingId(TrackingId trackingId) {
+        OrderTracking orderTracking = lastSavedOrderTracking;
+        if (orderTracking != null && trackingId.getValue().equals(orderTracking.getTrackingId())) {
+            return Optional.of(orderTracking);
+        }
+        return Optional.empty();
+    }
+}
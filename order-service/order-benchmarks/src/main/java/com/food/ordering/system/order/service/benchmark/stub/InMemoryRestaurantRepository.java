@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.benchmark.stub;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryRestaurantRepository implements RestaurantRepository {
+
+    private final Map<RestaurantId, Restaurant> restaurants = new ConcurrentHashMap<>();
+
+    public void addRestaurant(Restaurant restaurant) {
+        restaurants.put(restaurant.getId(), restaurant);
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+        return Optional.ofNullable(restaurants.get(restaurant.getId()));
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantMenu(RestaurantId restaurantId) {
+        return Optional.ofNullable(restaurants.get(restaurantId));
+    }
+}
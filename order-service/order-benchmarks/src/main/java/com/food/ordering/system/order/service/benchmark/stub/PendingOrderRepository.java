@@ -0,0 +1,82 @@
+package com.food.ordering.system.order.service.benchmark.stub;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Finds every requested order as a new {@link OrderStatus#PENDING} copy of a template order, so that saga
+ * benchmarks can apply the same transitions on every invocation. Saves are discarded.
+ */
+public class PendingOrderRepository implements OrderRepository {
+
+    private final Order template;
+
+    public PendingOrderRepository(Order template) {
+        this.template = template;
+    }
+
+    @Override
+    public Order save(Order order) {
+        return order;
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        return orders;
+    }
+
+    @Override
+    public boolean saveIfUnchanged(Order order) {
+        order.setVersion(order.getVersion() + 1);
+        return true;
+    }
+
+    @Override
+    public List<Order> saveAllIfUnchanged(List<Order> orders) {
+        for (Order order : orders) {
+            order.setVersion(order.getVersion() + 1);
+        }
+        return List.of();
+    }
+
+    @Override
+    public Optional<Order> findByTrackingId(TrackingId trackingId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return Optional.of(pendingOrder(orderId));
+    }
+
+    @Override
+    public List<Order> findByIds(Collection<OrderId> orderIds) {
+        List<Order> orders = new ArrayList<>(orderIds.size());
+        for (OrderId orderId : orderIds) {
+            orders.add(pendingOrder(orderId));
+        }
+        return orders;
+    }
+
+    private Order pendingOrder(OrderId orderId) {
+        return Order.Builder.builder()
+                .orderId(orderId)
+                .customerId(template.getCustomerId())
+                .restaurantId(template.getRestaurantId())
+                .deliveryAddres(template.getDeliveryAddres())
+                .price(template.getPrice())
+                .items(template.getItems())
+                .trackingId(new TrackingId(UUID.randomUUID()))
+                .orderStatus(OrderStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.food.ordering.system.order.service.dataaccess.customer.adapter;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Component
+public class CustomerRepositoryImpl implements CustomerRepository {
+
+    static final int MAX_IDS_PER_QUERY = 500;
+
+    static final int CUSTOMER_ID_PAGE_SIZE = 10_000;
+
+    private static final String EXISTS_BY_ID = "SELECT 1 FROM customers WHERE id = ?";
+
+    private static final String FIND_EXISTING_IDS = "SELECT id FROM customers WHERE id IN (:ids)";
+
+    private static final String FIND_FIRST_IDS = "SELECT id FROM customers ORDER BY id LIMIT ?";
+
+    private static final String FIND_IDS_AFTER = "SELECT id FROM customers WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public CustomerRepositoryImpl(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    @Override
+    public Optional<Customer> findCustomerById(UUID customerId) {
+        if (!existsCustomerById(customerId)) {
+            return Optional.empty();
+        }
+        Customer customer = new Customer();
+        customer.setId(new CustomerId(customerId));
+        return Optional.of(customer);
+    }
+
+    @Override
+    public boolean existsCustomerById(UUID customerId) {
+        Boolean exists = jdbcTemplate.query(EXISTS_BY_ID, (ResultSetExtractor<Boolean>) ResultSet::next, customerId);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    @Override
+    public Set<UUID> findExistingCustomerIds(Collection<UUID> customerIds) {
+        Set<UUID> existingIds = new HashSet<>();
+        List<UUID> ids = new ArrayList<>(customerIds);
+        for (int from = 0, size = ids.size(); from < size; from += MAX_IDS_PER_QUERY) {
+            namedParameterJdbcTemplate.query(FIND_EXISTING_IDS,
+                    Map.of("ids", ids.subList(from, Math.min(size, from + MAX_IDS_PER_QUERY))),
+                    resultSet -> {
+                        existingIds.add(resultSet.getObject(1, UUID.class));
+                    });
+        }
+        return existingIds;
+    }
+
+    /**
+     * Walks the primary key in pages of {@link #CUSTOMER_ID_PAGE_SIZE} ids, so memory stays bounded whether or not
+     * the driver streams result sets, and no transaction is held open for the whole scan.
+     */
+    @Override
+    public void forEachCustomerId(Consumer<UUID> action) {
+        List<UUID> page = jdbcTemplate.queryForList(FIND_FIRST_IDS, UUID.class, CUSTOMER_ID_PAGE_SIZE);
+        while (!page.isEmpty()) {
+            page.forEach(action);
+            if (page.size() < CUSTOMER_ID_PAGE_SIZE) {
+                return;
+            }
+            page = jdbcTemplate.queryForList(FIND_IDS_AFTER, UUID.class, page.get(page.size() - 1),
+                    CUSTOMER_ID_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.food.ordering.system.order.service.dataaccess.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Inserts many rows with one {@code INSERT ... VALUES (...), (...), ...} statement, the same rewrite the PostgreSQL
+ * driver does with {@code reWriteBatchedInserts}, so a batch costs one round-trip per table instead of one per row.
+ * <p>
+ * The SQL text for each row count is built once and reused. Keeping the text stable is what lets the driver reuse
+ * its server-side prepared statements (PostgreSQL prepares a statement after {@code prepareThreshold} executions of
+ * the same text).
+ */
+public final class MultiRowInsert {
+
+    private final String insertPrefix;
+    private final String rowPlaceholders;
+    private final int columnCount;
+    private final int maxRowsPerStatement;
+    private final AtomicReferenceArray<String> statements;
+
+    public MultiRowInsert(String table, List<String> columns, int maxRowsPerStatement) {
+        this.insertPrefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        this.rowPlaceholders = "(" + "?, ".repeat(columns.size() - 1) + "?)";
+        this.columnCount = columns.size();
+        this.maxRowsPerStatement = maxRowsPerStatement;
+        this.statements = new AtomicReferenceArray<>(maxRowsPerStatement + 1);
+    }
+
+    public String sql(int rows) {
+        if (rows < 1 || rows > maxRowsPerStatement) {
+            throw new IllegalArgumentException("Row count must be between 1 and " + maxRowsPerStatement + ": " + rows);
+        }
+        String sql = statements.get(rows);
+        if (sql == null) {
+            StringBuilder builder = new StringBuilder(insertPrefix.length() + rows * (rowPlaceholders.length() + 2))
+                    .append(insertPrefix)
+                    .append(rowPlaceholders);
+            for (int row = 1; row < rows; row++) {
+                builder.append(", ").append(rowPlaceholders);
+            }
+            sql = builder.toString();
+            statements.set(rows, sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Inserts all rows, in statements of at most {@code maxRowsPerStatement} rows each.
+     */
+    public <T> void insert(JdbcTemplate jdbcTemplate, List<T> rows, RowBinder<T> rowBinder) {
+        for (int from = 0, size = rows.size(); from < size; from += maxRowsPerStatement) {
+            List<T> chunk = rows.subList(from, Math.min(size, from + maxRowsPerStatement));
+            jdbcTemplate.update(sql(chunk.size()), preparedStatement -> {
+                int parameterIndex = 1;
+                for (T row : chunk) {
+                    rowBinder.bind(preparedStatement, parameterIndex, row);
+                    parameterIndex += columnCount;
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        /**
+         * Binds the columns of one row, starting at {@code firstParameterIndex}.
+         */
+        void bind(PreparedStatement preparedStatement, int firstParameterIndex, T row) throws SQLException;
+    }
+}
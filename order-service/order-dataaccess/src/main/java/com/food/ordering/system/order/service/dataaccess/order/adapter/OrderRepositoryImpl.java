@@ -0,0 +1,192 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.jdbc.MultiRowInsert;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC adapter for {@link OrderRepository}.
+ * <p>
+ * New orders are written with multi-row inserts: one statement for the orders of a batch and one for all of their
+ * items, whatever the number of items. An order is new while it is {@link OrderStatus#PENDING}, as no transition
+ * leads back to that status; orders in any other status were loaded first and only get their status and failure
+ * messages updated, in a single JDBC batch. Every update moves the version of the order on; the conditional saves
+ * only update rows still at the version the order was loaded at.
+ */
+@Component
+public class OrderRepositoryImpl implements OrderRepository {
+
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final MultiRowInsert ORDER_INSERT =
+            new MultiRowInsert("orders", OrderDataAccessMapper.ORDER_COLUMNS, MAX_ROWS_PER_STATEMENT);
+
+    private static final MultiRowInsert ORDER_ITEM_INSERT =
+            new MultiRowInsert("order_items", OrderDataAccessMapper.ORDER_ITEM_COLUMNS, MAX_ROWS_PER_STATEMENT);
+
+    private static final String UPDATE_ORDER_STATUS =
+            "UPDATE orders SET order_status = ?, failure_messages = ?, version = version + 1 WHERE id = ?";
+
+    private static final String UPDATE_ORDER_STATUS_IF_UNCHANGED = "UPDATE orders SET order_status = ?, " +
+            "failure_messages = ?, version = version + 1 WHERE id = ? AND version = ?";
+
+    private static final String FIND_BY_TRACKING_ID = "SELECT " + OrderDataAccessMapper.ORDER_WITH_ITEMS_COLUMNS +
+            " FROM orders o LEFT JOIN order_items i ON i.order_id = o.id WHERE o.tracking_id = ? ORDER BY i.id";
+
+    private static final String FIND_BY_ID = "SELECT " + OrderDataAccessMapper.ORDER_WITH_ITEMS_COLUMNS +
+            " FROM orders o LEFT JOIN order_items i ON i.order_id = o.id WHERE o.id = ? ORDER BY i.id";
+
+    private static final String FIND_BY_IDS = "SELECT " + OrderDataAccessMapper.ORDER_WITH_ITEMS_COLUMNS +
+            " FROM orders o LEFT JOIN order_items i ON i.order_id = o.id WHERE o.id IN (:ids) ORDER BY o.id, i.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final OrderDataAccessMapper orderDataAccessMapper;
+
+    public OrderRepositoryImpl(JdbcTemplate jdbcTemplate, OrderDataAccessMapper orderDataAccessMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.orderDataAccessMapper = orderDataAccessMapper;
+    }
+
+    @Override
+    @Transactional
+    public Order save(Order order) {
+        saveAll(List.of(order));
+        return order;
+    }
+
+    @Override
+    @Transactional
+    public List<Order> saveAll(List<Order> orders) {
+        List<Order> newOrders = new ArrayList<>(orders.size());
+        List<Order> updatedOrders = new ArrayList<>();
+        int itemCount = 0;
+        for (Order order : orders) {
+            if (order.getOrderStatus() == OrderStatus.PENDING) {
+                newOrders.add(order);
+                itemCount += order.getItems().size();
+            } else {
+                updatedOrders.add(order);
+            }
+        }
+        if (!newOrders.isEmpty()) {
+            insertOrders(newOrders, itemCount);
+        }
+        if (!updatedOrders.isEmpty()) {
+            updateOrders(updatedOrders);
+        }
+        return orders;
+    }
+
+    @Override
+    @Transactional
+    public boolean saveIfUnchanged(Order order) {
+        return saveAllIfUnchanged(List.of(order)).isEmpty();
+    }
+
+    @Override
+    @Transactional
+    public List<Order> saveAllIfUnchanged(List<Order> orders) {
+        int[][] updateCounts = jdbcTemplate.batchUpdate(UPDATE_ORDER_STATUS_IF_UNCHANGED, orders,
+                MAX_ROWS_PER_STATEMENT, (preparedStatement, order) -> {
+                    bindStatusUpdate(preparedStatement, order);
+                    preparedStatement.setLong(4, order.getVersion());
+                });
+        List<Order> conflicts = new ArrayList<>();
+        int index = 0;
+        for (int[] batchCounts : updateCounts) {
+            for (int updateCount : batchCounts) {
+                Order order = orders.get(index++);
+                if (updateCount == 0) {
+                    conflicts.add(order);
+                } else {
+                    order.setVersion(order.getVersion() + 1);
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    @Override
+    public Optional<Order> findByTrackingId(TrackingId trackingId) {
+        List<Order> orders = jdbcTemplate.query(FIND_BY_TRACKING_ID, orderDataAccessMapper::resultSetToOrders,
+                trackingId.getValue());
+        return orders == null || orders.isEmpty() ? Optional.empty() : Optional.of(orders.get(0));
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        List<Order> orders = jdbcTemplate.query(FIND_BY_ID, orderDataAccessMapper::resultSetToOrders,
+                orderId.getValue());
+        return orders == null || orders.isEmpty() ? Optional.empty() : Optional.of(orders.get(0));
+    }
+
+    /**
+     * Loads the orders and their items with one join query per {@link #MAX_ROWS_PER_STATEMENT} ids.
+     */
+    @Override
+    public List<Order> findByIds(Collection<OrderId> orderIds) {
+        List<UUID> ids = new ArrayList<>(orderIds.size());
+        for (OrderId orderId : orderIds) {
+            ids.add(orderId.getValue());
+        }
+        List<Order> orders = new ArrayList<>(ids.size());
+        for (int from = 0, size = ids.size(); from < size; from += MAX_ROWS_PER_STATEMENT) {
+            List<Order> chunk = namedParameterJdbcTemplate.query(FIND_BY_IDS,
+                    Map.of("ids", ids.subList(from, Math.min(size, from + MAX_ROWS_PER_STATEMENT))),
+                    orderDataAccessMapper::resultSetToOrders);
+            if (chunk != null) {
+                orders.addAll(chunk);
+            }
+        }
+        return orders;
+    }
+
+    private void insertOrders(List<Order> orders, int itemCount) {
+        ORDER_INSERT.insert(jdbcTemplate, orders, orderDataAccessMapper::bindOrder);
+        List<OrderItem> items;
+        if (orders.size() == 1) {
+            items = orders.get(0).getItems();
+        } else {
+            items = new ArrayList<>(itemCount);
+            for (Order order : orders) {
+                items.addAll(order.getItems());
+            }
+        }
+        if (!items.isEmpty()) {
+            ORDER_ITEM_INSERT.insert(jdbcTemplate, items, orderDataAccessMapper::bindOrderItem);
+        }
+    }
+
+    private void updateOrders(List<Order> orders) {
+        jdbcTemplate.batchUpdate(UPDATE_ORDER_STATUS, orders, MAX_ROWS_PER_STATEMENT, this::bindStatusUpdate);
+        for (Order order : orders) {
+            order.setVersion(order.getVersion() + 1);
+        }
+    }
+
+    private void bindStatusUpdate(PreparedStatement preparedStatement, Order order) throws SQLException {
+        preparedStatement.setString(1, order.getOrderStatus().name());
+        orderDataAccessMapper.bindFailureMessages(preparedStatement, 2, order.getFailureMessagges());
+        preparedStatement.setObject(3, order.getId().getValue());
+    }
+}
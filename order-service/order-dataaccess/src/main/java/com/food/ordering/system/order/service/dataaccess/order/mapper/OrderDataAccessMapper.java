@@ -0,0 +1,156 @@
+package com.food.ordering.system.order.service.dataaccess.order.mapper;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class OrderDataAccessMapper {
+
+    public static final List<String> ORDER_COLUMNS = List.of("id", "customer_id", "restaurant_id", "tracking_id",
+            "price", "order_status", "failure_messages", "address_id", "street", "postal_code", "city", "version");
+
+    public static final List<String> ORDER_ITEM_COLUMNS = List.of("id", "order_id", "product_id", "price",
+            "quantity", "sub_total");
+
+    /**
+     * Columns expected by {@link #resultSetToOrders(ResultSet)}: the order columns followed by the item columns of
+     * a left join, so an order without items still comes back.
+     */
+    public static final String ORDER_WITH_ITEMS_COLUMNS = "o.id, o.customer_id, o.restaurant_id, o.tracking_id, " +
+            "o.price, o.order_status, o.failure_messages, o.address_id, o.street, o.postal_code, o.city, o.version, " +
+            "i.id AS item_id, i.product_id, i.price AS item_price, i.quantity, i.sub_total";
+
+    public void bindOrder(PreparedStatement preparedStatement, int index, Order order) throws SQLException {
+        StreetAddress address = order.getDeliveryAddres();
+        preparedStatement.setObject(index, order.getId().getValue());
+        preparedStatement.setObject(index + 1, order.getCustomerId().getValue());
+        preparedStatement.setObject(index + 2, order.getRestaurantId().getValue());
+        preparedStatement.setObject(index + 3, order.getTrackingId().getValue());
+        preparedStatement.setBigDecimal(index + 4, order.getPrice().getAmount());
+        preparedStatement.setString(index + 5, order.getOrderStatus().name());
+        bindFailureMessages(preparedStatement, index + 6, order.getFailureMessagges());
+        preparedStatement.setObject(index + 7, address.getId());
+        preparedStatement.setString(index + 8, address.getStreet());
+        preparedStatement.setString(index + 9, address.getPostalCode());
+        preparedStatement.setString(index + 10, address.getCity());
+        preparedStatement.setLong(index + 11, order.getVersion());
+    }
+
+    public void bindOrderItem(PreparedStatement preparedStatement, int index, OrderItem orderItem) throws SQLException {
+        preparedStatement.setLong(index, orderItem.getId().getValue());
+        preparedStatement.setObject(index + 1, orderItem.getOrderId().getValue());
+        preparedStatement.setObject(index + 2, orderItem.getProduct().getId().getValue());
+        preparedStatement.setBigDecimal(index + 3, orderItem.getPrice().getAmount());
+        preparedStatement.setInt(index + 4, orderItem.getQuantity());
+        preparedStatement.setBigDecimal(index + 5, orderItem.getSubTotal().getAmount());
+    }
+
+    /**
+     * Binds failure messages to a {@code VARCHAR ARRAY} column, so a message may contain any character.
+     */
+    public void bindFailureMessages(PreparedStatement preparedStatement, int index, List<String> failureMessages)
+            throws SQLException {
+        if (failureMessages == null || failureMessages.isEmpty()) {
+            preparedStatement.setNull(index, Types.ARRAY);
+        } else {
+            preparedStatement.setArray(index, preparedStatement.getConnection()
+                    .createArrayOf("VARCHAR", failureMessages.toArray()));
+        }
+    }
+
+    /**
+     * Rebuilds the orders of a result set selected with {@link #ORDER_WITH_ITEMS_COLUMNS}, one row per order item,
+     * in the order the orders first appear.
+     */
+    public List<Order> resultSetToOrders(ResultSet resultSet) throws SQLException {
+        Map<UUID, OrderRows> orders = new LinkedHashMap<>();
+        while (resultSet.next()) {
+            UUID orderId = resultSet.getObject("id", UUID.class);
+            OrderRows orderRows = orders.get(orderId);
+            if (orderRows == null) {
+                orderRows = new OrderRows(orderBuilder(orderId, resultSet));
+                orders.put(orderId, orderRows);
+            }
+            long itemId = resultSet.getLong("item_id");
+            if (!resultSet.wasNull()) {
+                orderRows.items.add(orderItem(itemId, resultSet));
+            }
+        }
+        List<Order> result = new ArrayList<>(orders.size());
+        for (OrderRows orderRows : orders.values()) {
+            result.add(orderRows.builder.items(orderRows.items).build());
+        }
+        return result;
+    }
+
+    private Order.Builder orderBuilder(UUID orderId, ResultSet resultSet) throws SQLException {
+        return Order.Builder.builder()
+                .orderId(new OrderId(orderId))
+                .customerId(new CustomerId(resultSet.getObject("customer_id", UUID.class)))
+                .restaurantId(new RestaurantId(resultSet.getObject("restaurant_id", UUID.class)))
+                .trackingId(new TrackingId(resultSet.getObject("tracking_id", UUID.class)))
+                .price(new Money(resultSet.getBigDecimal("price")))
+                .orderStatus(OrderStatus.valueOf(resultSet.getString("order_status")))
+                .failureMessagges(failureMessages(resultSet, "failure_messages"))
+                .deliveryAddres(new StreetAddress(
+                        resultSet.getObject("address_id", UUID.class),
+                        resultSet.getString("street"),
+                        resultSet.getString("postal_code"),
+                        resultSet.getString("city")))
+                .version(resultSet.getLong("version"));
+    }
+
+    private OrderItem orderItem(long itemId, ResultSet resultSet) throws SQLException {
+        return OrderItem.Builder.builder()
+                .orderItemId(new OrderItemId(itemId))
+                .product(new Product(new ProductId(resultSet.getObject("product_id", UUID.class))))
+                .price(new Money(resultSet.getBigDecimal("item_price")))
+                .quantity(resultSet.getInt("quantity"))
+                .subTotal(new Money(resultSet.getBigDecimal("sub_total")))
+                .build();
+    }
+
+    public List<String> failureMessages(ResultSet resultSet, String column) throws SQLException {
+        Array failureMessages = resultSet.getArray(column);
+        if (failureMessages == null) {
+            return new ArrayList<>();
+        }
+        List<String> result = new ArrayList<>();
+        for (Object failureMessage : (Object[]) failureMessages.getArray()) {
+            result.add((String) failureMessage);
+        }
+        failureMessages.free();
+        return result;
+    }
+
+    private static final class OrderRows {
+        private final Order.Builder builder;
+        private final List<OrderItem> items = new ArrayList<>();
+
+        private OrderRows(Order.Builder builder) {
+            this.builder = builder;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.jdbc.MultiRowInsert;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
+import com.food.ordering.system.order.service.domain.event.OrderEventProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderEventType;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC adapter for {@link OrderOutboxRepository}.
+ * <p>
+ * A message is one {@code order_outbox} row holding the event payload, plus one {@code order_outbox_products} row
+ * per ordered product; both are written with multi-row inserts. Relays claim pending rows by stamping them with a
+ * claim id and a claim deadline in one conditional update, so concurrent relays never get the same row: a relay
+ * that loses the race for a row finds it already claimed when it re-checks the condition after the winner commits.
+ * Only the status columns are updated afterwards, which also clears the claim.
+ */
+@Component
+public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
+
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final MultiRowInsert ORDER_OUTBOX_INSERT = new MultiRowInsert("order_outbox",
+            List.of("id", "order_id", "created_at", "processed_at", "event_type", "outbox_status", "attempts",
+                    "customer_id", "restaurant_id", "price", "order_status", "failure_messages"),
+            MAX_ROWS_PER_STATEMENT);
+
+    private static final MultiRowInsert ORDER_OUTBOX_PRODUCT_INSERT = new MultiRowInsert("order_outbox_products",
+            List.of("id", "outbox_id", "product_id", "quantity"), MAX_ROWS_PER_STATEMENT);
+
+    private static final String MESSAGE_WITH_PRODUCTS_COLUMNS = "m.id, m.order_id, m.created_at, m.processed_at, " +
+            "m.event_type, m.outbox_status, m.attempts, m.customer_id, m.restaurant_id, m.price, m.order_status, " +
+            "m.failure_messages, p.id AS product_line, p.product_id, p.quantity";
+
+    private static final String UNCLAIMED = "(claimed_until IS NULL OR claimed_until < ?)";
+
+    private static final String CLAIM_BY_STATUS = "UPDATE order_outbox SET claimed_by = ?, claimed_until = ? " +
+            "WHERE id IN (SELECT id FROM order_outbox WHERE outbox_status = ? AND " + UNCLAIMED +
+            " ORDER BY created_at, id LIMIT ?) AND " + UNCLAIMED;
+
+    private static final String FIND_CLAIMED = "SELECT " + MESSAGE_WITH_PRODUCTS_COLUMNS +
+            " FROM order_outbox m LEFT JOIN order_outbox_products p ON p.outbox_id = m.id WHERE m.claimed_by = ?" +
+            " ORDER BY m.created_at, m.id, p.id";
+
+    private static final String FIND_BY_STATUS = "SELECT " + MESSAGE_WITH_PRODUCTS_COLUMNS +
+            " FROM (SELECT * FROM order_outbox WHERE outbox_status = ? ORDER BY created_at, id LIMIT ?) m" +
+            " LEFT JOIN order_outbox_products p ON p.outbox_id = m.id ORDER BY m.created_at, m.id, p.id";
+
+    private static final String UPDATE_STATUS = "UPDATE order_outbox SET outbox_status = ?, attempts = ?, " +
+            "processed_at = ?, claimed_by = NULL, claimed_until = NULL WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderDataAccessMapper orderDataAccessMapper;
+
+    public OrderOutboxRepositoryImpl(JdbcTemplate jdbcTemplate, OrderDataAccessMapper orderDataAccessMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderDataAccessMapper = orderDataAccessMapper;
+    }
+
+    @Override
+    @Transactional
+    public OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage) {
+        saveAll(List.of(orderOutboxMessage));
+        return orderOutboxMessage;
+    }
+
+    /**
+     * Inserts new messages; use {@link #updateAll(List)} for messages that were claimed.
+     */
+    @Override
+    @Transactional
+    public List<OrderOutboxMessage> saveAll(List<OrderOutboxMessage> orderOutboxMessages) {
+        if (orderOutboxMessages.isEmpty()) {
+            return orderOutboxMessages;
+        }
+        ORDER_OUTBOX_INSERT.insert(jdbcTemplate, orderOutboxMessages, this::bindMessage);
+        List<ProductLine> productLines = new ArrayList<>();
+        for (OrderOutboxMessage orderOutboxMessage : orderOutboxMessages) {
+            List<OrderEventProduct> products = orderOutboxMessage.getPayload().products();
+            for (int i = 0; i < products.size(); i++) {
+                productLines.add(new ProductLine(orderOutboxMessage.getId(), i, products.get(i)));
+            }
+        }
+        if (!productLines.isEmpty()) {
+            ORDER_OUTBOX_PRODUCT_INSERT.insert(jdbcTemplate, productLines, (preparedStatement, index, line) -> {
+                preparedStatement.setInt(index, line.line());
+                preparedStatement.setObject(index + 1, line.outboxId());
+                preparedStatement.setObject(index + 2, line.product().productId());
+                preparedStatement.setInt(index + 3, line.product().quantity());
+            });
+        }
+        return orderOutboxMessages;
+    }
+
+    @Override
+    public List<OrderOutboxMessage> findByOutboxStatus(OutboxStatus outboxStatus, int limit) {
+        return jdbcTemplate.query(FIND_BY_STATUS, this::resultSetToMessages, outboxStatus.name(), limit);
+    }
+
+    @Override
+    @Transactional
+    public List<OrderOutboxMessage> claimByOutboxStatus(OutboxStatus outboxStatus, int limit,
+                                                        Duration claimTimeout) {
+        UUID claimId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        int claimed = jdbcTemplate.update(CLAIM_BY_STATUS, claimId, now.plus(claimTimeout), outboxStatus.name(), now,
+                limit, now);
+        if (claimed == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(FIND_CLAIMED, this::resultSetToMessages, claimId);
+    }
+
+    @Override
+    @Transactional
+    public void updateAll(List<OrderOutboxMessage> orderOutboxMessages) {
+        jdbcTemplate.batchUpdate(UPDATE_STATUS, orderOutboxMessages, MAX_ROWS_PER_STATEMENT,
+                (preparedStatement, orderOutboxMessage) -> {
+                    preparedStatement.setString(1, orderOutboxMessage.getOutboxStatus().name());
+                    preparedStatement.setInt(2, orderOutboxMessage.getAttempts());
+                    bindInstant(preparedStatement, 3, orderOutboxMessage.getProcessedAt());
+                    preparedStatement.setObject(4, orderOutboxMessage.getId());
+                });
+    }
+
+    private void bindMessage(PreparedStatement preparedStatement, int index, OrderOutboxMessage orderOutboxMessage)
+            throws SQLException {
+        OrderEventPayload payload = orderOutboxMessage.getPayload();
+        preparedStatement.setObject(index, orderOutboxMessage.getId());
+        preparedStatement.setObject(index + 1, orderOutboxMessage.getOrderId());
+        bindInstant(preparedStatement, index + 2, orderOutboxMessage.getCreatedAt());
+        bindInstant(preparedStatement, index + 3, orderOutboxMessage.getProcessedAt());
+        preparedStatement.setString(index + 4, orderOutboxMessage.getEventType().name());
+        preparedStatement.setString(index + 5, orderOutboxMessage.getOutboxStatus().name());
+        preparedStatement.setInt(index + 6, orderOutboxMessage.getAttempts());
+        preparedStatement.setObject(index + 7, payload.customerId());
+        preparedStatement.setObject(index + 8, payload.restaurantId());
+        preparedStatement.setBigDecimal(index + 9, payload.price() == null ? null : payload.price().getAmount());
+        preparedStatement.setString(index + 10, payload.orderStatus() == null ? null : payload.orderStatus().name());
+        orderDataAccessMapper.bindFailureMessages(preparedStatement, index + 11, payload.failureMessages());
+    }
+
+    private void bindInstant(PreparedStatement preparedStatement, int index, Instant instant) throws SQLException {
+        if (instant == null) {
+            preparedStatement.setNull(index, Types.TIMESTAMP_WITH_TIMEZONE);
+        } else {
+            preparedStatement.setObject(index, OffsetDateTime.ofInstant(instant, ZoneOffset.UTC));
+        }
+    }
+
+    /**
+     * Rebuilds the messages of a result set selected with {@link #MESSAGE_WITH_PRODUCTS_COLUMNS}, one row per
+     * product, in the order the messages first appear.
+     */
+    private List<OrderOutboxMessage> resultSetToMessages(ResultSet resultSet) throws SQLException {
+        Map<UUID, MessageRows> messages = new LinkedHashMap<>();
+        while (resultSet.next()) {
+            UUID id = resultSet.getObject("id", UUID.class);
+            MessageRows messageRows = messages.get(id);
+            if (messageRows == null) {
+                messageRows = new MessageRows(id, resultSet,
+                        orderDataAccessMapper.failureMessages(resultSet, "failure_messages"));
+                messages.put(id, messageRows);
+            }
+            UUID productId = resultSet.getObject("product_id", UUID.class);
+            if (productId != null) {
+                messageRows.products.add(new OrderEventProduct(productId, resultSet.getInt("quantity")));
+            }
+        }
+        List<OrderOutboxMessage> result = new ArrayList<>(messages.size());
+        for (MessageRows messageRows : messages.values()) {
+            result.add(messageRows.toMessage());
+        }
+        return result;
+    }
+
+    private static Instant instant(ResultSet resultSet, String column) throws SQLException {
+        OffsetDateTime offsetDateTime = resultSet.getObject(column, OffsetDateTime.class);
+        return offsetDateTime == null ? null : offsetDateTime.toInstant();
+    }
+
+    private record ProductLine(UUID outboxId, int line, OrderEventProduct product) {
+    }
+
+    private static final class MessageRows {
+        private final UUID id;
+        private final UUID orderId;
+        private final Instant createdAt;
+        private final Instant processedAt;
+        private final OrderEventType eventType;
+        private final OutboxStatus outboxStatus;
+        private final int attempts;
+        private final UUID customerId;
+        private final UUID restaurantId;
+        private final BigDecimal price;
+        private final String orderStatus;
+        private final List<String> failureMessages;
+        private final List<OrderEventProduct> products = new ArrayList<>();
+
+        private MessageRows(UUID id, ResultSet resultSet, List<String> failureMessages) throws SQLException {
+            this.id = id;
+            this.orderId = resultSet.getObject("order_id", UUID.class);
+            this.createdAt = instant(resultSet, "created_at");
+            this.processedAt = instant(resultSet, "processed_at");
+            this.eventType = OrderEventType.valueOf(resultSet.getString("event_type"));
+            this.outboxStatus = OutboxStatus.valueOf(resultSet.getString("outbox_status"));
+            this.attempts = resultSet.getInt("attempts");
+            this.customerId = resultSet.getObject("customer_id", UUID.class);
+            this.restaurantId = resultSet.getObject("restaurant_id", UUID.class);
+            this.price = resultSet.getBigDecimal("price");
+            this.orderStatus = resultSet.getString("order_status");
+            this.failureMessages = failureMessages;
+        }
+
+        private OrderOutboxMessage toMessage() {
+            OrderEventPayload payload = new OrderEventPayload(orderId, customerId, restaurantId,
+                    price == null ? null : new Money(price),
+                    orderStatus == null ? null : OrderStatus.valueOf(orderStatus), createdAt, products,
+                    failureMessages);
+            return new OrderOutboxMessage(id, orderId, createdAt, eventType, payload, processedAt, outboxStatus,
+                    attempts);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Loads a restaurant and its products with a single left join, so a restaurant whose requested products are all
+ * missing is still found.
+ */
+@Component
+public class RestaurantRepositoryImpl implements RestaurantRepository {
+
+    private static final String RESTAURANT_WITH_PRODUCTS =
+            "SELECT r.id, r.active, r.menu_version, p.product_id, p.name, p.price FROM restaurants r " +
+                    "LEFT JOIN restaurant_products p ON p.restaurant_id = r.id";
+
+    private static final String FIND_RESTAURANT_INFORMATION = RESTAURANT_WITH_PRODUCTS +
+            " AND p.product_id IN (:productIds) WHERE r.id = :restaurantId";
+
+    private static final String FIND_RESTAURANT_MENU = RESTAURANT_WITH_PRODUCTS + " WHERE r.id = :restaurantId";
+
+    private static final String FIND_MENU_VERSIONS =
+            "SELECT id, menu_version FROM restaurants WHERE id IN (:restaurantIds)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public RestaurantRepositoryImpl(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+        List<Product> products = restaurant.getProducts();
+        if (products == null || products.isEmpty()) {
+            return findRestaurantMenu(restaurant.getId());
+        }
+        List<UUID> productIds = new ArrayList<>(products.size());
+        for (Product product : products) {
+            productIds.add(product.getId().getValue());
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("restaurantId", restaurant.getId().getValue())
+                .addValue("productIds", productIds);
+        return Optional.ofNullable(namedParameterJdbcTemplate.query(FIND_RESTAURANT_INFORMATION, parameters,
+                this::resultSetToRestaurant));
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantMenu(RestaurantId restaurantId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("restaurantId", restaurantId.getValue());
+        return Optional.ofNullable(namedParameterJdbcTemplate.query(FIND_RESTAURANT_MENU, parameters,
+                this::resultSetToRestaurant));
+    }
+
+    @Override
+    public Map<RestaurantId, Long> findMenuVersions(Collection<RestaurantId> restaurantIds) {
+        Map<RestaurantId, Long> menuVersions = new HashMap<>();
+        if (restaurantIds.isEmpty()) {
+            return menuVersions;
+        }
+        List<UUID> ids = new ArrayList<>(restaurantIds.size());
+        for (RestaurantId restaurantId : restaurantIds) {
+            ids.add(restaurantId.getValue());
+        }
+        namedParameterJdbcTemplate.query(FIND_MENU_VERSIONS, new MapSqlParameterSource("restaurantIds", ids),
+                resultSet -> {
+                    menuVersions.put(new RestaurantId(resultSet.getObject("id", UUID.class)),
+                            resultSet.getLong("menu_version"));
+                });
+        return menuVersions;
+    }
+
+    private Restaurant resultSetToRestaurant(ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            return null;
+        }
+        Restaurant.Builder builder = Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(resultSet.getObject("id", UUID.class)))
+                .active(resultSet.getBoolean("active"))
+                .menuVersion(resultSet.getLong("menu_version"));
+        List<Product> products = new ArrayList<>();
+        do {
+            UUID productId = resultSet.getObject("product_id", UUID.class);
+            if (productId != null) {
+                products.add(new Product(new ProductId(productId), resultSet.getString("name"),
+                        new Money(resultSet.getBigDecimal("price"))));
+            }
+        } while (resultSet.next());
+        return builder.products(products).build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.adapter;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.jdbc.MultiRowInsert;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC adapter for the tracking read model, a single narrow table keyed by tracking id. Like the orders, an entry is
+ * inserted while its order is {@link OrderStatus#PENDING} and updated afterwards.
+ */
+@Component
+public class OrderTrackingRepositoryImpl implements OrderTrackingRepository {
+
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final MultiRowInsert ORDER_TRACKING_INSERT = new MultiRowInsert("order_tracking",
+            List.of("tracking_id", "order_id", "order_status", "failure_messages"), MAX_ROWS_PER_STATEMENT);
+
+    private static final String UPDATE_ORDER_TRACKING =
+            "UPDATE order_tracking SET order_status = ?, failure_messages = ? WHERE tracking_id = ?";
+
+    private static final String FIND_BY_TRACKING_ID =
+            "SELECT tracking_id, order_id, order_status, failure_messages FROM order_tracking WHERE tracking_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderDataAccessMapper orderDataAccessMapper;
+
+    public OrderTrackingRepositoryImpl(JdbcTemplate jdbcTemplate, OrderDataAccessMapper orderDataAccessMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderDataAccessMapper = orderDataAccessMapper;
+    }
+
+    @Override
+    public OrderTracking save(OrderTracking orderTracking) {
+        saveAll(List.of(orderTracking));
+        return orderTracking;
+    }
+
+    @Override
+    public List<OrderTracking> saveAll(List<OrderTracking> orderTrackings) {
+        List<OrderTracking> newOrderTrackings = new ArrayList<>(orderTrackings.size());
+        List<OrderTracking> updatedOrderTrackings = new ArrayList<>();
+        for (OrderTracking orderTracking : orderTrackings) {
+            if (orderTracking.getOrderStatus() == OrderStatus.PENDING) {
+                newOrderTrackings.add(orderTracking);
+            } else {
+                updatedOrderTrackings.add(orderTracking);
+            }
+        }
+        if (!newOrderTrackings.isEmpty()) {
+            ORDER_TRACKING_INSERT.insert(jdbcTemplate, newOrderTrackings, (preparedStatement, index, orderTracking) -> {
+                preparedStatement.setObject(index, orderTracking.getTrackingId());
+                preparedStatement.setObject(index + 1, orderTracking.getOrderId());
+                preparedStatement.setString(index + 2, orderTracking.getOrderStatus().name());
+                orderDataAccessMapper.bindFailureMessages(preparedStatement, index + 3,
+                        orderTracking.getFailureMessages());
+            });
+        }
+        if (!updatedOrderTrackings.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_ORDER_TRACKING, updatedOrderTrackings, MAX_ROWS_PER_STATEMENT,
+                    (preparedStatement, orderTracking) -> {
+                        preparedStatement.setString(1, orderTracking.getOrderStatus().name());
+                        orderDataAccessMapper.bindFailureMessages(preparedStatement, 2,
+                                orderTracking.getFailureMessages());
+                        preparedStatement.setObject(3, orderTracking.getTrackingId());
+                    });
+        }
+        return orderTrackings;
+    }
+
+    @Override
+    public Optional<OrderTracking> findByTrackingId(TrackingId trackingId) {
+        List<OrderTracking> orderTrackings =
+                jdbcTemplate.query(FIND_BY_TRACKING_ID, this::rowToOrderTracking, trackingId.getValue());
+        return orderTrackings.isEmpty() ? Optional.empty() : Optional.of(orderTrackings.get(0));
+    }
+
+    private OrderTracking rowToOrderTracking(ResultSet resultSet, int rowNum) throws SQLException {
+        return OrderTracking.builder()
+                .trackingId(resultSet.getObject("tracking_id", UUID.class))
+                .orderId(resultSet.getObject("order_id", UUID.class))
+                .orderStatus(OrderStatus.valueOf(resultSet.getString("order_status")))
+                .failureMessages(orderDataAccessMapper.failureMessages(resultSet, "failure_messages"))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+CREATE TABLE IF NOT EXISTS orders
+(
+    id               UUID           NOT NULL,
+    customer_id      UUID           NOT NULL,
+    restaurant_id    UUID           NOT NULL,
+    tracking_id      UUID           NOT NULL,
+    price            NUMERIC(10, 2) NOT NULL,
+    order_status     VARCHAR(16)    NOT NULL,
+    failure_messages VARCHAR ARRAY,
+    address_id       UUID           NOT NULL,
+    street           VARCHAR(255)   NOT NULL,
+    postal_code      VARCHAR(16)    NOT NULL,
+    city             VARCHAR(255)   NOT NULL,
+    version          BIGINT         NOT NULL DEFAULT 0,
+    CONSTRAINT orders_pkey PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS orders_tracking_id_idx ON orders (tracking_id);
+
+CREATE TABLE IF NOT EXISTS order_items
+(
+    id         BIGINT         NOT NULL,
+    order_id   UUID           NOT NULL,
+    product_id UUID           NOT NULL,
+    price      NUMERIC(10, 2) NOT NULL,
+    quantity   INTEGER        NOT NULL,
+    sub_total  NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT order_items_pkey PRIMARY KEY (order_id, id),
+    CONSTRAINT order_items_order_fkey FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS customers
+(
+    id UUID NOT NULL,
+    CONSTRAINT customers_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS restaurants
+(
+    id           UUID    NOT NULL,
+    active       BOOLEAN NOT NULL,
+    menu_version BIGINT  NOT NULL DEFAULT 0,
+    CONSTRAINT restaurants_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS restaurant_products
+(
+    restaurant_id UUID           NOT NULL,
+    product_id    UUID           NOT NULL,
+    name          VARCHAR(255)   NOT NULL,
+    price         NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT restaurant_products_pkey PRIMARY KEY (restaurant_id, product_id),
+    CONSTRAINT restaurant_products_restaurant_fkey FOREIGN KEY (restaurant_id) REFERENCES restaurants (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS order_tracking
+(
+    tracking_id      UUID          NOT NULL,
+    order_id         UUID          NOT NULL,
+    order_status     VARCHAR(16)   NOT NULL,
+    failure_messages VARCHAR ARRAY,
+    CONSTRAINT order_tracking_pkey PRIMARY KEY (tracking_id)
+);
+
+CREATE TABLE IF NOT EXISTS order_outbox
+(
+    id               UUID                     NOT NULL,
+    order_id         UUID                     NOT NULL,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at     TIMESTAMP WITH TIME ZONE,
+    event_type       VARCHAR(32)              NOT NULL,
+    outbox_status    VARCHAR(16)              NOT NULL,
+    attempts         INTEGER                  NOT NULL DEFAULT 0,
+    claimed_by       UUID,
+    claimed_until    TIMESTAMP WITH TIME ZONE,
+    customer_id      UUID,
+    restaurant_id    UUID,
+    price            NUMERIC(10, 2),
+    order_status     VARCHAR(16),
+    failure_messages VARCHAR ARRAY,
+    CONSTRAINT order_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS order_outbox_status_created_at_idx ON order_outbox (outbox_status, created_at);
+
+CREATE TABLE IF NOT EXISTS order_outbox_products
+(
+    id         INTEGER NOT NULL,
+    outbox_id  UUID    NOT NULL,
+    product_id UUID    NOT NULL,
+    quantity   INTEGER NOT NULL,
+    CONSTRAINT order_outbox_products_pkey PRIMARY KEY (outbox_id, id),
+    CONSTRAINT order_outbox_products_outbox_fkey FOREIGN KEY (outbox_id) REFERENCES order_outbox (id) ON DELETE CASCADE
+);
@@ -0,0 +1,73 @@
+package com.food.ordering.system.order.service.dataaccess.customer.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.DataAccessTestConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = DataAccessTestConfiguration.class)
+public class CustomerRepositoryImplTest {
+
+    private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+
+    @Autowired
+    private CustomerRepositoryImpl customerRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void init() {
+        jdbcTemplate.update("DELETE FROM customers");
+        jdbcTemplate.update("INSERT INTO customers (id) VALUES (?)", CUSTOMER_ID);
+    }
+
+    @Test
+    public void testFindCustomer() {
+        assertTrue(customerRepository.existsCustomerById(CUSTOMER_ID));
+        assertEquals(CUSTOMER_ID, customerRepository.findCustomerById(CUSTOMER_ID).orElseThrow().getId().getValue());
+        assertFalse(customerRepository.existsCustomerById(UUID.randomUUID()));
+        assertTrue(customerRepository.findCustomerById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    public void testFindExistingCustomerIdsAcrossQueries() {
+        List<UUID> customerIds = new ArrayList<>();
+        for (int i = 0; i < CustomerRepositoryImpl.MAX_IDS_PER_QUERY * 2; i++) {
+            customerIds.add(UUID.randomUUID());
+        }
+        customerIds.add(CUSTOMER_ID);
+
+        assertEquals(Set.of(CUSTOMER_ID), customerRepository.findExistingCustomerIds(customerIds));
+
+        Set<UUID> allIds = new HashSet<>();
+        customerRepository.forEachCustomerId(allIds::add);
+        assertEquals(Set.of(CUSTOMER_ID), allIds);
+    }
+
+    @Test
+    public void testForEachCustomerIdPagesThroughAllCustomers() {
+        List<Object[]> customerIds = new ArrayList<>();
+        for (int i = 0; i < CustomerRepositoryImpl.CUSTOMER_ID_PAGE_SIZE * 2; i++) {
+            customerIds.add(new Object[]{UUID.randomUUID()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO customers (id) VALUES (?)", customerIds);
+
+        List<UUID> scannedIds = new ArrayList<>();
+        customerRepository.forEachCustomerId(scannedIds::add);
+
+        assertEquals(customerIds.size() + 1, scannedIds.size());
+        assertEquals(customerIds.size() + 1, new HashSet<>(scannedIds).size());
+    }
+}
@@ -0,0 +1,161 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.DataAccessTestConfiguration;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = DataAccessTestConfiguration.class)
+public class OrderRepositoryImplTest {
+
+    private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+    private final BigDecimal PRICE = new BigDecimal("50.00");
+
+    @Autowired
+    private OrderRepositoryImpl orderRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @Test
+    public void testSaveAndFindByTrackingId() {
+        Order order = pendingOrder(3);
+        orderRepository.save(order);
+
+        Order found = orderRepository.findByTrackingId(order.getTrackingId()).orElseThrow();
+        assertEquals(order.getId(), found.getId());
+        assertEquals(OrderStatus.PENDING, found.getOrderStatus());
+        assertEquals(order.getPrice(), found.getPrice());
+        assertEquals(order.getDeliveryAddres(), found.getDeliveryAddres());
+        assertEquals(3, found.getItems().size());
+        for (int i = 0; i < 3; i++) {
+            OrderItem item = found.getItems().get(i);
+            assertEquals(i + 1L, item.getId().getValue());
+            assertEquals(PRODUCT_ID, item.getProduct().getId().getValue());
+            assertEquals(i + 1, item.getQuantity());
+            assertEquals(order.getItems().get(i).getSubTotal(), item.getSubTotal());
+        }
+    }
+
+    @Test
+    public void testSaveAllSplitsLargeBatches() {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < OrderRepositoryImpl.MAX_ROWS_PER_STATEMENT + 1; i++) {
+            orders.add(pendingOrder(2));
+        }
+        orderRepository.saveAll(orders);
+
+        assertEquals(orders.size(), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class));
+        assertEquals(orders.size() * 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items", Integer.class));
+        Order last = orders.get(orders.size() - 1);
+        assertEquals(2, orderRepository.findByTrackingId(last.getTrackingId()).orElseThrow().getItems().size());
+    }
+
+    @Test
+    public void testSaveUpdatesStatusOfExistingOrder() {
+        Order order = pendingOrder(1);
+        orderRepository.save(order);
+
+        Order loaded = orderRepository.findByTrackingId(order.getTrackingId()).orElseThrow();
+        loaded.cancel(new ArrayList<>(List.of("Payment failed, insufficient credit", "Restaurant closed")));
+        orderRepository.save(loaded);
+
+        Order found = orderRepository.findByTrackingId(order.getTrackingId()).orElseThrow();
+        assertEquals(OrderStatus.CANCELLED, found.getOrderStatus());
+        assertEquals(List.of("Payment failed, insufficient credit", "Restaurant closed"),
+                found.getFailureMessagges());
+        assertEquals(1, found.getItems().size());
+    }
+
+    @Test
+    public void testSaveIfUnchangedRejectsStaleVersion() {
+        Order order = pendingOrder(1);
+        orderRepository.save(order);
+
+        Order first = orderRepository.findById(order.getId()).orElseThrow();
+        Order second = orderRepository.findById(order.getId()).orElseThrow();
+        first.pay();
+        assertTrue(orderRepository.saveIfUnchanged(first));
+        assertEquals(1, first.getVersion());
+
+        second.cancel(new ArrayList<>(List.of("Payment failed")));
+        assertFalse(orderRepository.saveIfUnchanged(second));
+        assertEquals(List.of(second), orderRepository.saveAllIfUnchanged(List.of(second)));
+
+        Order found = orderRepository.findById(order.getId()).orElseThrow();
+        assertEquals(OrderStatus.PAID, found.getOrderStatus());
+        assertEquals(1, found.getVersion());
+    }
+
+    @Test
+    public void testFindByIds() {
+        Order first = pendingOrder(2);
+        Order second = pendingOrder(1);
+        orderRepository.saveAll(List.of(first, second, pendingOrder(1)));
+
+        List<Order> found = orderRepository.findByIds(List.of(first.getId(), second.getId(),
+                new OrderId(UUID.randomUUID())));
+        assertEquals(2, found.size());
+        Order foundFirst = found.get(0).getId().equals(first.getId()) ? found.get(0) : found.get(1);
+        assertEquals(2, foundFirst.getItems().size());
+        assertEquals(second.getTrackingId(), orderRepository.findById(second.getId()).orElseThrow().getTrackingId());
+    }
+
+    @Test
+    public void testFindByUnknownTrackingId() {
+        Order order = pendingOrder(1);
+        assertTrue(orderRepository.findByTrackingId(order.getTrackingId()).isEmpty());
+    }
+
+    private Order pendingOrder(int itemCount) {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        Money total = Money.ZERO;
+        for (int quantity = 1; quantity <= itemCount; quantity++) {
+            Money price = new Money(PRICE);
+            Money subTotal = price.multiply(quantity);
+            items.add(OrderItem.Builder.builder()
+                    .product(new Product(new ProductId(PRODUCT_ID), "product", price))
+                    .price(price)
+                    .quantity(quantity)
+                    .subTotal(subTotal)
+                    .build());
+            total = total.add(subTotal);
+        }
+        Order order = Order.Builder.builder()
+                .customerId(new CustomerId(CUSTOMER_ID))
+                .restaurantId(new RestaurantId(RESTAURANT_ID))
+                .deliveryAddres(new StreetAddress(UUID.randomUUID(), "street_1", "1000AB", "Paris"))
+                .price(total)
+                .items(items)
+                .build();
+        order.initializerOrder();
+        return order;
+    }
+}
@@ -0,0 +1,170 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.DataAccessTestConfiguration;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
+import com.food.ordering.system.order.service.domain.event.OrderEventProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderEventType;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = DataAccessTestConfiguration.class)
+public class OrderOutboxRepositoryImplTest {
+
+    private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private final UUID PRODUCT_ID_1 = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb47");
+    private final UUID PRODUCT_ID_2 = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+    private final Duration CLAIM_TIMEOUT = Duration.ofMinutes(1);
+
+    @Autowired
+    private OrderOutboxRepositoryImpl orderOutboxRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @BeforeEach
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM order_outbox");
+    }
+
+    @Test
+    public void testSaveAndFindByOutboxStatus() {
+        OrderOutboxMessage message = message(0, List.of("Payment failed, insufficient credit", "Second, message"));
+        orderOutboxRepository.save(message);
+
+        List<OrderOutboxMessage> found = orderOutboxRepository.findByOutboxStatus(OutboxStatus.STARTED, 10);
+
+        assertEquals(1, found.size());
+        OrderOutboxMessage loaded = found.get(0);
+        assertEquals(message.getId(), loaded.getId());
+        assertEquals(message.getOrderId(), loaded.getOrderId());
+        assertEquals(createdAt, loaded.getCreatedAt());
+        assertEquals(OrderEventType.ORDER_CREATED, loaded.getEventType());
+        assertEquals(OutboxStatus.STARTED, loaded.getOutboxStatus());
+        assertEquals(message.getPayload(), loaded.getPayload());
+        assertTrue(orderOutboxRepository.findByOutboxStatus(OutboxStatus.COMPLETED, 10).isEmpty());
+    }
+
+    @Test
+    public void testClaimedMessagesAreNotClaimedAgainUntilUpdated() {
+        List<OrderOutboxMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            messages.add(message(i, null));
+        }
+        orderOutboxRepository.saveAll(messages);
+
+        List<OrderOutboxMessage> firstClaim =
+                orderOutboxRepository.claimByOutboxStatus(OutboxStatus.STARTED, 2, CLAIM_TIMEOUT);
+        List<OrderOutboxMessage> secondClaim =
+                orderOutboxRepository.claimByOutboxStatus(OutboxStatus.STARTED, 2, CLAIM_TIMEOUT);
+
+        assertEquals(List.of(messages.get(0).getId(), messages.get(1).getId()), ids(firstClaim));
+        assertEquals(List.of(messages.get(2).getId()), ids(secondClaim));
+        assertTrue(orderOutboxRepository.claimByOutboxStatus(OutboxStatus.STARTED, 2, CLAIM_TIMEOUT).isEmpty());
+
+        OrderOutboxMessage published = firstClaim.get(0);
+        published.setOutboxStatus(OutboxStatus.COMPLETED);
+        published.setProcessedAt(createdAt.plusSeconds(1));
+        OrderOutboxMessage failed = firstClaim.get(1);
+        failed.setAttempts(1);
+        orderOutboxRepository.updateAll(firstClaim);
+
+        List<OrderOutboxMessage> retry = orderOutboxRepository.claimByOutboxStatus(OutboxStatus.STARTED, 2,
+                CLAIM_TIMEOUT);
+        assertEquals(List.of(failed.getId()), ids(retry));
+        assertEquals(1, retry.get(0).getAttempts());
+        OrderOutboxMessage completed = orderOutboxRepository.findByOutboxStatus(OutboxStatus.COMPLETED, 10).get(0);
+        assertEquals(createdAt.plusSeconds(1), completed.getProcessedAt());
+    }
+
+    @Test
+    public void testExpiredClaimCanBeTakenOver() throws InterruptedException {
+        OrderOutboxMessage message = message(0, null);
+        orderOutboxRepository.save(message);
+
+        assertEquals(1, orderOutboxRepository.claimByOutboxStatus(OutboxStatus.STARTED, 10, Duration.ZERO).size());
+        Thread.sleep(5);
+        assertEquals(List.of(message.getId()),
+                ids(orderOutboxRepository.claimByOutboxStatus(OutboxStatus.STARTED, 10, CLAIM_TIMEOUT)));
+    }
+
+    @Test
+    public void testConcurrentRelaysClaimDisjointMessages() throws Exception {
+        List<OrderOutboxMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            messages.add(message(i, null));
+        }
+        orderOutboxRepository.saveAll(messages);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<List<UUID>>> relays = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                relays.add(() -> {
+                    List<UUID> claimed = new ArrayList<>();
+                    List<OrderOutboxMessage> batch;
+                    do {
+                        batch = orderOutboxRepository.claimByOutboxStatus(OutboxStatus.STARTED, 3, CLAIM_TIMEOUT);
+                        claimed.addAll(ids(batch));
+                    } while (!batch.isEmpty());
+                    return claimed;
+                });
+            }
+            Set<UUID> claimedOnce = new HashSet<>();
+            int claimedTotal = 0;
+            for (Future<List<UUID>> relay : executor.invokeAll(relays)) {
+                List<UUID> claimed = relay.get();
+                claimedOnce.addAll(claimed);
+                claimedTotal += claimed.size();
+            }
+            assertEquals(40, claimedTotal);
+            assertEquals(40, claimedOnce.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<UUID> ids(List<OrderOutboxMessage> messages) {
+        return messages.stream().map(OrderOutboxMessage::getId).toList();
+    }
+
+    private OrderOutboxMessage message(int sequence, List<String> failureMessages) {
+        UUID orderId = UUID.randomUUID();
+        Instant messageCreatedAt = createdAt.plusMillis(sequence);
+        return OrderOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .orderId(orderId)
+                .createdAt(messageCreatedAt)
+                .eventType(OrderEventType.ORDER_CREATED)
+                .payload(new OrderEventPayload(orderId, CUSTOMER_ID, RESTAURANT_ID,
+                        new Money(new BigDecimal("125.00")), OrderStatus.PENDING, messageCreatedAt,
+                        List.of(new OrderEventProduct(PRODUCT_ID_2, 2), new OrderEventProduct(PRODUCT_ID_1, 1)),
+                        failureMessages))
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+}
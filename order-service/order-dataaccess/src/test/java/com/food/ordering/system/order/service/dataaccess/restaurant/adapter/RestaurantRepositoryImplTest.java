@@ -0,0 +1,81 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.DataAccessTestConfiguration;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = DataAccessTestConfiguration.class)
+public class RestaurantRepositoryImplTest {
+
+    private final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private final UUID PRODUCT_ID_1 = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb47");
+    private final UUID PRODUCT_ID_2 = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+
+    @Autowired
+    private RestaurantRepositoryImpl restaurantRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void init() {
+        jdbcTemplate.update("DELETE FROM restaurants");
+        jdbcTemplate.update("INSERT INTO restaurants (id, active, menu_version) VALUES (?, ?, ?)",
+                RESTAURANT_ID, true, 3L);
+        jdbcTemplate.update("INSERT INTO restaurant_products (restaurant_id, product_id, name, price) " +
+                "VALUES (?, ?, ?, ?), (?, ?, ?, ?)",
+                RESTAURANT_ID, PRODUCT_ID_1, "product-1", new BigDecimal("50.00"),
+                RESTAURANT_ID, PRODUCT_ID_2, "product-2", new BigDecimal("25.00"));
+    }
+
+    @Test
+    public void testFindRestaurantInformationLoadsRequestedProducts() {
+        Restaurant restaurant = restaurantRepository.findRestaurantInformation(Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(RESTAURANT_ID))
+                .products(List.of(new Product(new ProductId(PRODUCT_ID_2)), new Product(new ProductId(UUID.randomUUID()))))
+                .build()).orElseThrow();
+
+        assertTrue(restaurant.isActive());
+        assertEquals(3L, restaurant.getMenuVersion());
+        assertEquals(1, restaurant.getProducts().size());
+        Product product = restaurant.findProduct(new ProductId(PRODUCT_ID_2));
+        assertEquals("product-2", product.getName());
+        assertEquals(new Money(new BigDecimal("25.00")), product.getPrice());
+    }
+
+    @Test
+    public void testFindRestaurantMenu() {
+        Restaurant restaurant = restaurantRepository.findRestaurantMenu(new RestaurantId(RESTAURANT_ID)).orElseThrow();
+        assertEquals(2, restaurant.getProducts().size());
+
+        Restaurant withoutProducts = restaurantRepository.findRestaurantInformation(Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(RESTAURANT_ID))
+                .products(List.of(new Product(new ProductId(UUID.randomUUID()))))
+                .build()).orElseThrow();
+        assertTrue(withoutProducts.getProducts().isEmpty());
+        assertTrue(restaurantRepository.findRestaurantMenu(new RestaurantId(UUID.randomUUID())).isEmpty());
+    }
+
+    @Test
+    public void testFindMenuVersionsSkipsMissingRestaurants() {
+        Map<RestaurantId, Long> menuVersions = restaurantRepository.findMenuVersions(
+                List.of(new RestaurantId(RESTAURANT_ID), new RestaurantId(UUID.randomUUID())));
+
+        assertEquals(Map.of(new RestaurantId(RESTAURANT_ID), 3L), menuVersions);
+    }
+}
@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.adapter;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.DataAccessTestConfiguration;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = DataAccessTestConfiguration.class)
+public class OrderTrackingRepositoryImplTest {
+
+    private final UUID TRACKING_ID = UUID.fromString("15a497c1-0f4b-4eff-b9f4-c402c8c07afc");
+    private final UUID ORDER_ID = UUID.fromString("15a497c1-0f4b-4eff-b9f4-c402c8c07afb");
+
+    @Autowired
+    private OrderTrackingRepositoryImpl orderTrackingRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM order_tracking");
+    }
+
+    @Test
+    public void testSaveAndUpdateOrderTracking() {
+        orderTrackingRepository.save(orderTracking(OrderStatus.PENDING, null));
+        OrderTracking pending = orderTrackingRepository.findByTrackingId(new TrackingId(TRACKING_ID)).orElseThrow();
+        assertEquals(ORDER_ID, pending.getOrderId());
+        assertEquals(OrderStatus.PENDING, pending.getOrderStatus());
+        assertTrue(pending.getFailureMessages().isEmpty());
+
+        orderTrackingRepository.save(orderTracking(OrderStatus.CANCELLED,
+                List.of("Payment failed, insufficient credit", "Restaurant closed")));
+        OrderTracking cancelled = orderTrackingRepository.findByTrackingId(new TrackingId(TRACKING_ID)).orElseThrow();
+        assertEquals(OrderStatus.CANCELLED, cancelled.getOrderStatus());
+        assertEquals(List.of("Payment failed, insufficient credit", "Restaurant closed"),
+                cancelled.getFailureMessages());
+
+        assertTrue(orderTrackingRepository.findByTrackingId(new TrackingId(UUID.randomUUID())).isEmpty());
+    }
+
+    private OrderTracking orderTracking(OrderStatus orderStatus, List<String> failureMessages) {
+        return OrderTracking.builder()
+                .trackingId(TRACKING_ID)
+                .orderId(ORDER_ID)
+                .orderStatus(orderStatus)
+                .failureMessages(failureMessages)
+                .build();
+    }
+}
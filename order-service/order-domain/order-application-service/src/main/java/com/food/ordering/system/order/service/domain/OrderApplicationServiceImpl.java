@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
@@ -9,6 +10,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Slf4j
 @Validated
 @Service
@@ -29,6 +32,11 @@ public class OrderApplicationServiceImpl implements OrderApplicationService {
         return this.orderCreateCommadHandler.createOrder(createOrderCommand);
     }
 
+    @Override
+    public List<CreateOrderResult> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        return this.orderCreateCommadHandler.createOrders(createOrderCommands);
+    }
+
     @Override
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
         return this.orderTrackCommadHandler.trackOrder(trackOrderQuery);
@@ -0,0 +1,132 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.metrics.SagaTransition;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Applies restaurant approval responses, one order per transaction. Callers may run responses for different orders
+ * concurrently, but must keep the responses of one order in sequence. A response whose order is unknown or not in
+ * the expected status (typically a redelivered response) is logged and skipped.
+ * <p>
+ * The order is saved through {@link OrderTransitionHelper}, so a concurrent payment transition on the same order
+ * makes the response apply again to the fresh order instead of overwriting it.
+ */
+@Slf4j
+@Component
+public class OrderApprovalSaga {
+
+    private final OrderDomainService orderDomainService;
+
+    private final OrderTransitionHelper orderTransitionHelper;
+
+    private final OrderTrackingHelper orderTrackingHelper;
+
+    private final OrderOutboxHelper orderOutboxHelper;
+
+    private final OrderMetrics orderMetrics;
+
+    public OrderApprovalSaga(OrderDomainService orderDomainService,
+                             OrderTransitionHelper orderTransitionHelper,
+                             OrderTrackingHelper orderTrackingHelper,
+                             OrderOutboxHelper orderOutboxHelper,
+                             OrderMetrics orderMetrics) {
+        this.orderDomainService = orderDomainService;
+        this.orderTransitionHelper = orderTransitionHelper;
+        this.orderTrackingHelper = orderTrackingHelper;
+        this.orderOutboxHelper = orderOutboxHelper;
+        this.orderMetrics = orderMetrics;
+    }
+
+    @Transactional
+    public void approveOrder(RestaurantApprovalResponse restaurantApprovalResponse) {
+        long startTime = orderMetrics.startTime();
+        try {
+            approve(restaurantApprovalResponse);
+        } finally {
+            orderMetrics.recordApprovalResponse(startTime);
+        }
+    }
+
+    @Transactional
+    public void rejectOrder(RestaurantApprovalResponse restaurantApprovalResponse) {
+        long startTime = orderMetrics.startTime();
+        try {
+            reject(restaurantApprovalResponse);
+        } finally {
+            orderMetrics.recordApprovalResponse(startTime);
+        }
+    }
+
+    private void approve(RestaurantApprovalResponse restaurantApprovalResponse) {
+        Optional<Order> orderResult;
+        try {
+            orderResult = orderTransitionHelper.transition(orderId(restaurantApprovalResponse), order -> {
+                try {
+                    orderDomainService.approveOrder(order);
+                } finally {
+                    orderMetrics.recordTransition(SagaTransition.APPROVE, order.getOrderStatus());
+                }
+                return order;
+            });
+        } catch (OrderDomainException e) {
+            log.warn("Approval response with id: {} for order id: {} is skipped: {}",
+                    restaurantApprovalResponse.getId(), restaurantApprovalResponse.getOrderId(), e.getMessage());
+            return;
+        }
+        if (orderResult.isEmpty()) {
+            logOrderNotFound(restaurantApprovalResponse);
+            return;
+        }
+        orderTrackingHelper.saveOrderTracking(orderResult.get());
+    }
+
+    private void reject(RestaurantApprovalResponse restaurantApprovalResponse) {
+        List<String> failureMessages = restaurantApprovalResponse.getFailureMessages() == null
+                ? List.of()
+                : restaurantApprovalResponse.getFailureMessages();
+        Optional<OrderCancelledEvent> orderCancelledEvent;
+        try {
+            orderCancelledEvent = orderTransitionHelper.transition(orderId(restaurantApprovalResponse), order -> {
+                try {
+                    return orderDomainService.cancelOrderPayment(order, new ArrayList<>(failureMessages));
+                } finally {
+                    orderMetrics.recordTransition(SagaTransition.CANCEL, order.getOrderStatus());
+                }
+            });
+        } catch (OrderDomainException e) {
+            log.warn("Rejection response with id: {} for order id: {} is skipped: {}",
+                    restaurantApprovalResponse.getId(), restaurantApprovalResponse.getOrderId(), e.getMessage());
+            return;
+        }
+        if (orderCancelledEvent.isEmpty()) {
+            logOrderNotFound(restaurantApprovalResponse);
+            return;
+        }
+        orderTrackingHelper.saveOrderTracking(orderCancelledEvent.get().getOrder());
+        orderOutboxHelper.saveOrderEvent(orderCancelledEvent.get());
+    }
+
+    private OrderId orderId(RestaurantApprovalResponse restaurantApprovalResponse) {
+        return new OrderId(UUID.fromString(restaurantApprovalResponse.getOrderId()));
+    }
+
+    private void logOrderNotFound(RestaurantApprovalResponse restaurantApprovalResponse) {
+        log.warn("Could not find order with id: {} for approval response with id: {}",
+                restaurantApprovalResponse.getOrderId(), restaurantApprovalResponse.getId());
+    }
+}
@@ -2,35 +2,68 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
-import lombok.extern.slf4j.Slf4j;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-@Slf4j
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Component
 public class OrderCreateCommadHandler {
 
     private final OrderCreateHelper orderCreateHelper;
     private final OrderDataMapper orderDataMapper;
-    private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+    private final Validator validator;
 
     public OrderCreateCommadHandler(OrderCreateHelper orderCreateHelper,
                                     OrderDataMapper orderDataMapper,
-                                    OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher) {
+                                    Validator validator) {
         this.orderCreateHelper = orderCreateHelper;
         this.orderDataMapper = orderDataMapper;
-        this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+        this.validator = validator;
     }
 
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
-        OrderCreatedEvent orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand);
-        log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
-        orderCreatedPaymentRequestMessagePublisher.publish(orderCreatedEvent);
+        OrderCreatedEvent orderCreatedEvent =
+                orderCreateHelper.persistOrder(orderCreateHelper.initiateOrder(createOrderCommand));
         return this.orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(), "Order Created Successfully");
     }
+
+    public List<CreateOrderResult> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        List<OrderCreateOutcome> outcomes = new ArrayList<>(Collections.nCopies(createOrderCommands.size(), null));
+        List<CreateOrderCommand> validCommands = new ArrayList<>(createOrderCommands.size());
+        List<Integer> validIndexes = new ArrayList<>(createOrderCommands.size());
+        for (int i = 0; i < createOrderCommands.size(); i++) {
+            Set<ConstraintViolation<CreateOrderCommand>> violations = validator.validate(createOrderCommands.get(i));
+            if (violations.isEmpty()) {
+                validCommands.add(createOrderCommands.get(i));
+                validIndexes.add(i);
+            } else {
+                outcomes.set(i, OrderCreateOutcome.failed(violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .collect(Collectors.joining(", "))));
+            }
+        }
+
+        if (!validCommands.isEmpty()) {
+            List<OrderCreateOutcome> persistedOutcomes = orderCreateHelper.persistOrders(validCommands);
+            for (int i = 0; i < persistedOutcomes.size(); i++) {
+                outcomes.set(validIndexes.get(i), persistedOutcomes.get(i));
+            }
+        }
+        return outcomes.stream()
+                .map(outcome -> this.orderDataMapper.orderCreateOutcomeToCreateOrderResult(outcome,
+                        "Order Created Successfully"))
+                .toList();
+    }
 }
 
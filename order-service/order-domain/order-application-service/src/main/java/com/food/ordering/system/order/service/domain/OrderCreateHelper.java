@@ -1,22 +1,42 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
-import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.logging.OrderLogMarkers;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderCreateStage;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingHelper;
+import com.food.ordering.system.order.service.domain.validation.CreateOrderCommandValidator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -32,46 +52,241 @@ public class OrderCreateHelper {
 
     private final OrderDataMapper orderDataMapper;
 
+    private final OrderOutboxHelper orderOutboxHelper;
+
+    private final OrderTrackingHelper orderTrackingHelper;
+
+    private final ExecutorService orderLookupExecutor;
+
+    private final Duration lookupTimeout;
+
+    private final CreateOrderCommandValidator createOrderCommandValidator;
+
+    private final OrderMetrics orderMetrics;
+
     public OrderCreateHelper(OrderDomainService orderDomainService,
                              OrderRepository orderRepository,
                              CustomerRepository customerRepository,
                              RestaurantRepository restaurantRepository,
-                             OrderDataMapper orderDataMapper) {
+                             OrderDataMapper orderDataMapper,
+                             OrderOutboxHelper orderOutboxHelper,
+                             OrderTrackingHelper orderTrackingHelper,
+                             ExecutorService orderLookupExecutor,
+                             OrderCreateConfigData orderCreateConfigData,
+                             OrderMetrics orderMetrics,
+                             CreateOrderCommandValidator createOrderCommandValidator) {
         this.orderDomainService = orderDomainService;
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
         this.restaurantRepository = restaurantRepository;
         this.orderDataMapper = orderDataMapper;
+        this.orderOutboxHelper = orderOutboxHelper;
+        this.orderTrackingHelper = orderTrackingHelper;
+        this.orderLookupExecutor = orderLookupExecutor;
+        this.lookupTimeout = orderCreateConfigData.getLookupTimeout();
+        this.orderMetrics = orderMetrics;
+        this.createOrderCommandValidator = createOrderCommandValidator;
     }
 
+    /**
+     * Checks the customer and the restaurant, then validates and initiates the order, without a transaction. The two
+     * lookups are independent reads and run concurrently on the lookup executor. A command rejected by
+     * {@link CreateOrderCommandValidator} fails before either lookup.
+     */
+    public OrderCreatedEvent initiateOrder(CreateOrderCommand createOrderCommand) {
+        createOrderCommandValidator.validate(createOrderCommand);
+        Restaurant restaurant = checkCustomerAndRestaurant(createOrderCommand);
+        long startTime = orderMetrics.startTime();
+        Order order;
+        try {
+            order = this.orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        } finally {
+            orderMetrics.recordCreateStage(OrderCreateStage.MAPPING, startTime);
+        }
+        startTime = orderMetrics.startTime();
+        try {
+            return orderDomainService.validateAndInitiateOrder(order, restaurant);
+        } finally {
+            orderMetrics.recordCreateStage(OrderCreateStage.VALIDATION, startTime);
+        }
+    }
+
+    /**
+     * Saves an order returned by {@link #initiateOrder(CreateOrderCommand)} with its tracking entry and outbox
+     * message. The transaction covers these writes only.
+     */
     @Transactional
-    public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand){
-        checkCustumer(createOrderCommand.getCustomerId());
-        Restaurant restaurant = checkRestaurant(createOrderCommand);
-        Order order = this.orderDataMapper.createOrderCommandToOrder(createOrderCommand);
-        OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
-        this.saveOrder(order);
-        log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
+    public OrderCreatedEvent persistOrder(OrderCreatedEvent orderCreatedEvent) {
+        Order order = orderCreatedEvent.getOrder();
+        long startTime = orderMetrics.startTime();
+        try {
+            this.saveOrder(order);
+            this.orderTrackingHelper.saveOrderTracking(order);
+        } finally {
+            orderMetrics.recordCreateStage(OrderCreateStage.SAVE, startTime);
+        }
+        startTime = orderMetrics.startTime();
+        try {
+            this.orderOutboxHelper.saveOrderEvent(orderCreatedEvent);
+        } finally {
+            orderMetrics.recordCreateStage(OrderCreateStage.PUBLISH, startTime);
+        }
+        log.info(OrderLogMarkers.ORDER_EVENT, "Order is created with id: {}", order.getId().getValue());
         return orderCreatedEvent;
     }
 
+    /**
+     * Creates a batch of orders in one transaction. Customers and restaurants are looked up once per distinct id,
+     * and an order that fails a check or the domain validation is reported in its outcome without affecting the
+     * rest of the batch. Commands rejected by {@link CreateOrderCommandValidator} are left out of the lookups.
+     * Outcomes are returned in the order of the commands.
+     */
+    @Transactional
+    public List<OrderCreateOutcome> persistOrders(List<CreateOrderCommand> createOrderCommands) {
+        Map<CreateOrderCommand, OrderCreateOutcome> rejected = new IdentityHashMap<>();
+        List<CreateOrderCommand> validated = new ArrayList<>(createOrderCommands.size());
+        for (CreateOrderCommand createOrderCommand : createOrderCommands) {
+            try {
+                createOrderCommandValidator.validate(createOrderCommand);
+                validated.add(createOrderCommand);
+            } catch (OrderDomainException e) {
+                rejected.put(createOrderCommand, OrderCreateOutcome.failed(e.getMessage()));
+            }
+        }
+        Set<UUID> existingCustomerIds = validated.isEmpty() ? Set.of() : this.customerRepository
+                .findExistingCustomerIds(validated.stream().map(CreateOrderCommand::getCustomerId)
+                        .collect(Collectors.toSet()));
+        Map<UUID, Optional<Restaurant>> restaurants = findRestaurants(validated);
+
+        List<OrderCreateOutcome> outcomes = new ArrayList<>(createOrderCommands.size());
+        List<Order> orders = new ArrayList<>(createOrderCommands.size());
+        List<OrderCreatedEvent> orderCreatedEvents = new ArrayList<>(createOrderCommands.size());
+        for (CreateOrderCommand createOrderCommand : createOrderCommands) {
+            OrderCreateOutcome outcome = rejected.containsKey(createOrderCommand)
+                    ? rejected.get(createOrderCommand)
+                    : validateAndInitiateOrder(createOrderCommand, existingCustomerIds, restaurants);
+            if (outcome.isCreated()) {
+                orders.add(outcome.getOrderCreatedEvent().getOrder());
+                orderCreatedEvents.add(outcome.getOrderCreatedEvent());
+            }
+            outcomes.add(outcome);
+        }
+        if (!orders.isEmpty()) {
+            saveOrders(orders);
+            this.orderTrackingHelper.saveOrderTrackings(orders);
+            this.orderOutboxHelper.saveOrderEvents(orderCreatedEvents);
+        }
+        log.info("Batch of {} orders processed, {} created", createOrderCommands.size(), orders.size());
+        return outcomes;
+    }
+
+    private Map<UUID, Optional<Restaurant>> findRestaurants(List<CreateOrderCommand> createOrderCommands) {
+        Map<UUID, Optional<Restaurant>> restaurants = new HashMap<>();
+        createOrderCommands.stream()
+                .collect(Collectors.groupingBy(CreateOrderCommand::getRestaurantId))
+                .forEach((restaurantId, restaurantCommands) -> restaurants.put(restaurantId,
+                        this.restaurantRepository.findRestaurantInformation(
+                                this.orderDataMapper.createOrderCommandsToRestaurant(restaurantId, restaurantCommands))));
+        return restaurants;
+    }
+
+    private OrderCreateOutcome validateAndInitiateOrder(CreateOrderCommand createOrderCommand,
+                                                        Set<UUID> existingCustomerIds,
+                                                        Map<UUID, Optional<Restaurant>> restaurants) {
+        if (!existingCustomerIds.contains(createOrderCommand.getCustomerId())) {
+            log.warn("Could not find customer with customer id: {}", createOrderCommand.getCustomerId());
+            return OrderCreateOutcome.failed("Could not find customer with customer id: "
+                    + createOrderCommand.getCustomerId());
+        }
+        Optional<Restaurant> restaurant = restaurants.get(createOrderCommand.getRestaurantId());
+        if (restaurant.isEmpty()) {
+            log.warn("Could not find restaurant with restaurant id: {}", createOrderCommand.getRestaurantId());
+            return OrderCreateOutcome.failed("Could not find restaurant with restaurant id: "
+                    + createOrderCommand.getRestaurantId());
+        }
+        try {
+            Order order = this.orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+            return OrderCreateOutcome.created(orderDomainService.validateAndInitiateOrder(order, restaurant.get()));
+        } catch (OrderDomainException e) {
+            log.warn("Order for customer id: {} was rejected: {}", createOrderCommand.getCustomerId(), e.getMessage());
+            return OrderCreateOutcome.failed(e.getMessage());
+        }
+    }
+
+    /**
+     * Runs both checks concurrently and returns the restaurant once both passed. The first lookup to fail cancels the
+     * other one, so a missing customer does not wait for the restaurant lookup or the other way round.
+     */
+    private Restaurant checkCustomerAndRestaurant(CreateOrderCommand createOrderCommand) {
+        CompletionService<Restaurant> lookups = new ExecutorCompletionService<>(orderLookupExecutor);
+        Future<Restaurant> customerLookup = lookups.submit(() -> {
+            long startTime = orderMetrics.startTime();
+            try {
+                checkCustumer(createOrderCommand.getCustomerId());
+            } finally {
+                orderMetrics.recordCreateStage(OrderCreateStage.CUSTOMER_CHECK, startTime);
+            }
+            return null;
+        });
+        Future<Restaurant> restaurantLookup = lookups.submit(() -> {
+            long startTime = orderMetrics.startTime();
+            try {
+                return checkRestaurant(createOrderCommand);
+            } finally {
+                orderMetrics.recordCreateStage(OrderCreateStage.RESTAURANT_CHECK, startTime);
+            }
+        });
+        long deadline = System.nanoTime() + lookupTimeout.toNanos();
+        try {
+            for (int i = 0; i < 2; i++) {
+                Future<Restaurant> completed = lookups.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (completed == null) {
+                    throw new IllegalStateException("Customer and restaurant lookups did not complete within "
+                            + lookupTimeout.toMillis() + " ms");
+                }
+                completed.get();
+            }
+            return restaurantLookup.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Customer or restaurant lookup failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up customer and restaurant", e);
+        } finally {
+            customerLookup.cancel(true);
+            restaurantLookup.cancel(true);
+        }
+    }
+
     private Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
         Restaurant restaurant = this.orderDataMapper.createOrderCommandToRestaurant(createOrderCommand);
         Optional<Restaurant> restaurantOptional = this.restaurantRepository.findRestaurantInformation(restaurant);
         if (restaurantOptional.isEmpty()) {
             log.warn("Could not find restaurant with restaurant id: {}", createOrderCommand.getRestaurantId());
-            throw new OrderDomainException("Could not find restaurant with restaurant id:" + createOrderCommand.getRestaurantId());
+            throw new OrderDomainException("Could not find restaurant with restaurant id: " + createOrderCommand.getRestaurantId());
         }
         return restaurantOptional.get();
     }
 
 
     private void checkCustumer(UUID customerId) {
-        Optional<Customer> customer = this.customerRepository.findCustomerById(customerId);
-        if (customer.isEmpty()) {
+        if (!this.customerRepository.existsCustomerById(customerId)) {
             log.warn("Could not find customer with customer id: {}", customerId);
-            throw new OrderDomainException("Could not find customer with customer id: " + customer);
+            throw new OrderDomainException("Could not find customer with customer id: " + customerId);
+        }
+    }
+
+    private List<Order> saveOrders(List<Order> orders) {
+        List<Order> orderResults = this.orderRepository.saveAll(orders);
+        if (Objects.isNull(orderResults) || orderResults.size() != orders.size()) {
+            log.error("Could not save orders!");
+            throw new OrderDomainException("Could not save orders!");
         }
+        log.info("{} orders are saved", orderResults.size());
+        return orderResults;
     }
 
     private Order saveOrder(Order order) {
@@ -80,7 +295,7 @@ public class OrderCreateHelper {
             log.error("Could not save order!");
             throw new OrderDomainException("Could not save order!");
         }
-        log.info("Order is saved with id: {}", orderResult.getId().getValue());
+        log.debug("Order is saved with id: {}", orderResult.getId().getValue());
         return orderResult;
     }
 }
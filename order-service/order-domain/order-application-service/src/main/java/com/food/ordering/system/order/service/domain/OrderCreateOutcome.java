@@ -0,0 +1,38 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+
+/**
+ * Result of one command of a batch create: either the created event or the reason the order was rejected.
+ */
+public class OrderCreateOutcome {
+
+    private final OrderCreatedEvent orderCreatedEvent;
+
+    private final String failureMessage;
+
+    private OrderCreateOutcome(OrderCreatedEvent orderCreatedEvent, String failureMessage) {
+        this.orderCreatedEvent = orderCreatedEvent;
+        this.failureMessage = failureMessage;
+    }
+
+    public static OrderCreateOutcome created(OrderCreatedEvent orderCreatedEvent) {
+        return new OrderCreateOutcome(orderCreatedEvent, null);
+    }
+
+    public static OrderCreateOutcome failed(String failureMessage) {
+        return new OrderCreateOutcome(null, failureMessage);
+    }
+
+    public boolean isCreated() {
+        return orderCreatedEvent != null;
+    }
+
+    public OrderCreatedEvent getOrderCreatedEvent() {
+        return orderCreatedEvent;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+}
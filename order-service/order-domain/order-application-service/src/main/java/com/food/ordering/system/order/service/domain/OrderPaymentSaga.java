@@ -0,0 +1,183 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.metrics.SagaTransition;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies payment responses to their orders a batch at a time: all orders of the batch are loaded with one
+ * repository call, the transitions run in memory, and the changed orders, their tracking entries and the resulting
+ * events are written once for the whole batch, in one transaction.
+ * <p>
+ * A response whose order is unknown, or that does not fit the current order status (typically a redelivered
+ * response), is logged and skipped so it cannot hold back the rest of the batch.
+ * <p>
+ * The changed orders are saved only if they are still at the version they were loaded at. An order that an approval
+ * response changed in the meantime is loaded again and its responses applied once more through
+ * {@link OrderTransitionHelper}; the rest of the batch is not affected.
+ */
+@Slf4j
+@Component
+public class OrderPaymentSaga {
+
+    private final OrderDomainService orderDomainService;
+
+    private final OrderRepository orderRepository;
+
+    private final OrderTransitionHelper orderTransitionHelper;
+
+    private final OrderTrackingHelper orderTrackingHelper;
+
+    private final OrderOutboxHelper orderOutboxHelper;
+
+    private final OrderMetrics orderMetrics;
+
+    public OrderPaymentSaga(OrderDomainService orderDomainService,
+                            OrderRepository orderRepository,
+                            OrderTransitionHelper orderTransitionHelper,
+                            OrderTrackingHelper orderTrackingHelper,
+                            OrderOutboxHelper orderOutboxHelper,
+                            OrderMetrics orderMetrics) {
+        this.orderDomainService = orderDomainService;
+        this.orderRepository = orderRepository;
+        this.orderTransitionHelper = orderTransitionHelper;
+        this.orderTrackingHelper = orderTrackingHelper;
+        this.orderOutboxHelper = orderOutboxHelper;
+        this.orderMetrics = orderMetrics;
+    }
+
+    @Transactional
+    public void processPaymentResponses(List<PaymentResponse> paymentResponses) {
+        long startTime = orderMetrics.startTime();
+        try {
+            applyAndSavePaymentResponses(paymentResponses);
+        } finally {
+            orderMetrics.recordPaymentResponses(paymentResponses.size(), startTime);
+        }
+    }
+
+    private void applyAndSavePaymentResponses(List<PaymentResponse> paymentResponses) {
+        Map<UUID, List<PaymentResponse>> responsesByOrderId = new LinkedHashMap<>();
+        for (PaymentResponse paymentResponse : paymentResponses) {
+            responsesByOrderId.computeIfAbsent(UUID.fromString(paymentResponse.getOrderId()),
+                    orderId -> new ArrayList<>(1)).add(paymentResponse);
+        }
+        Map<UUID, Order> orders = findOrders(responsesByOrderId.keySet());
+        Map<UUID, Order> changedOrders = new LinkedHashMap<>();
+        Map<UUID, List<OrderPaidEvent>> orderPaidEvents = new HashMap<>();
+        responsesByOrderId.forEach((orderId, orderResponses) -> {
+            Order order = orders.get(orderId);
+            if (order == null) {
+                orderResponses.forEach(paymentResponse -> log.warn(
+                        "Could not find order with id: {} for payment response with id: {}", orderId,
+                        paymentResponse.getId()));
+                return;
+            }
+            List<OrderPaidEvent> events = applyPaymentResponses(order, orderResponses);
+            if (events != null) {
+                changedOrders.put(orderId, order);
+                orderPaidEvents.put(orderId, events);
+            }
+        });
+        if (!changedOrders.isEmpty()) {
+            for (Order conflict : orderRepository.saveAllIfUnchanged(new ArrayList<>(changedOrders.values()))) {
+                UUID orderId = conflict.getId().getValue();
+                changedOrders.remove(orderId);
+                orderPaidEvents.remove(orderId);
+                retryPaymentResponses(orderId, responsesByOrderId.get(orderId), changedOrders, orderPaidEvents);
+            }
+        }
+        if (!changedOrders.isEmpty()) {
+            orderTrackingHelper.saveOrderTrackings(new ArrayList<>(changedOrders.values()));
+        }
+        List<OrderPaidEvent> events = new ArrayList<>();
+        for (UUID orderId : changedOrders.keySet()) {
+            events.addAll(orderPaidEvents.get(orderId));
+        }
+        if (!events.isEmpty()) {
+            orderOutboxHelper.saveOrderEvents(events);
+        }
+        log.info("Batch of {} payment responses processed, {} orders updated", paymentResponses.size(),
+                changedOrders.size());
+    }
+
+    private void retryPaymentResponses(UUID orderId, List<PaymentResponse> orderResponses,
+                                       Map<UUID, Order> changedOrders,
+                                       Map<UUID, List<OrderPaidEvent>> orderPaidEvents) {
+        log.debug("Order with id: {} changed while its payment responses were applied, retrying", orderId);
+        Order[] retriedOrder = new Order[1];
+        orderTransitionHelper.transition(new OrderId(orderId), order -> {
+            retriedOrder[0] = order;
+            return applyPaymentResponses(order, orderResponses);
+        }).ifPresent(events -> {
+            changedOrders.put(orderId, retriedOrder[0]);
+            orderPaidEvents.put(orderId, events);
+        });
+    }
+
+    /**
+     * Applies the responses of one order in sequence and returns the resulting events, or null if every response was
+     * skipped and the order is unchanged.
+     */
+    private List<OrderPaidEvent> applyPaymentResponses(Order order, List<PaymentResponse> orderResponses) {
+        List<OrderPaidEvent> events = null;
+        for (PaymentResponse paymentResponse : orderResponses) {
+            SagaTransition transition = paymentResponse.getPaymentStatus() == PaymentStatus.COMPLETED
+                    ? SagaTransition.PAY
+                    : SagaTransition.CANCEL;
+            try {
+                switch (paymentResponse.getPaymentStatus()) {
+                    case COMPLETED -> {
+                        OrderPaidEvent orderPaidEvent = orderDomainService.payOrder(order);
+                        events = events == null ? new ArrayList<>(1) : events;
+                        events.add(orderPaidEvent);
+                    }
+                    case CANCELLED, FAILED -> {
+                        orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages() == null
+                                ? new ArrayList<>()
+                                : new ArrayList<>(paymentResponse.getFailureMessages()));
+                        events = events == null ? new ArrayList<>(0) : events;
+                    }
+                }
+            } catch (OrderDomainException e) {
+                log.warn("Payment response with id: {} for order id: {} is skipped: {}", paymentResponse.getId(),
+                        order.getId().getValue(), e.getMessage());
+            } finally {
+                orderMetrics.recordTransition(transition, order.getOrderStatus());
+            }
+        }
+        return events;
+    }
+
+    private Map<UUID, Order> findOrders(Set<UUID> ids) {
+        Set<OrderId> orderIds = new LinkedHashSet<>();
+        for (UUID id : ids) {
+            orderIds.add(new OrderId(id));
+        }
+        Map<UUID, Order> orders = new HashMap<>();
+        for (Order order : orderRepository.findByIds(orderIds)) {
+            orders.put(order.getId().getValue(), order);
+        }
+        return orders;
+    }
+}
@@ -2,39 +2,40 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+/**
+ * Answers tracking queries from the tracking read model only. It is a single-row read, so no transaction is opened.
+ */
 @Slf4j
 @Component
 public class OrderTrackCommadHandler {
 
     private final OrderDataMapper orderDataMapper;
 
-    private final OrderRepository orderRepository;
+    private final OrderTrackingRepository orderTrackingRepository;
 
-    public OrderTrackCommadHandler(OrderDataMapper orderDataMapper, OrderRepository orderRepository) {
+    public OrderTrackCommadHandler(OrderDataMapper orderDataMapper, OrderTrackingRepository orderTrackingRepository) {
         this.orderDataMapper = orderDataMapper;
-        this.orderRepository = orderRepository;
+        this.orderTrackingRepository = orderTrackingRepository;
     }
 
-    @Transactional(readOnly = true)
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
-        Optional<Order> orderResult =
-                orderRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTrackingId()));
-        if (orderResult.isEmpty()) {
+        Optional<OrderTracking> orderTrackingResult =
+                orderTrackingRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTrackingId()));
+        if (orderTrackingResult.isEmpty()) {
             log.warn("Could no find order with tracking id: {}", trackOrderQuery.getOrderTrackingId());
             throw new OrderNotFoundException("Could no find order with tracking id: "
                     + trackOrderQuery.getOrderTrackingId());
         }
-        return orderDataMapper.orderToTrackOrderResponse(orderResult.get());
+        return orderDataMapper.orderTrackingToTrackOrderResponse(orderTrackingResult.get());
     }
 }
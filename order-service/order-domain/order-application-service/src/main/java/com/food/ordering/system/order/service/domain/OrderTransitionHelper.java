@@ -0,0 +1,62 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.config.OrderTransitionConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderVersionConflictException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Applies status transitions with optimistic concurrency instead of row locks. The order is loaded, the transition
+ * runs in memory and the order is saved only if no other transition was saved in between. On a conflict the order is
+ * loaded again and the transition applied to the fresh state, so a transition that no longer fits fails with the
+ * usual {@link com.food.ordering.system.order.service.domain.exception.OrderDomainException}.
+ * <p>
+ * When called inside a transaction, the reload sees the conflicting change once it is committed, which the read
+ * committed isolation of the order database guarantees.
+ */
+@Slf4j
+@Component
+public class OrderTransitionHelper {
+
+    private final OrderRepository orderRepository;
+
+    private final int maxAttempts;
+
+    public OrderTransitionHelper(OrderRepository orderRepository, OrderTransitionConfigData orderTransitionConfigData) {
+        this.orderRepository = orderRepository;
+        this.maxAttempts = Math.max(1, orderTransitionConfigData.getMaxAttempts());
+    }
+
+    /**
+     * Applies {@code transition} to the order and saves it, retrying on version conflicts. Returns the result of the
+     * transition, or empty if the order does not exist or the transition returned null to leave it unchanged.
+     *
+     * @throws OrderVersionConflictException if the order changed under every attempt
+     */
+    public <R> Optional<R> transition(OrderId orderId, Function<Order, R> transition) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Optional<Order> orderResult = orderRepository.findById(orderId);
+            if (orderResult.isEmpty()) {
+                return Optional.empty();
+            }
+            Order order = orderResult.get();
+            R result = transition.apply(order);
+            if (result == null) {
+                return Optional.empty();
+            }
+            if (orderRepository.saveIfUnchanged(order)) {
+                return Optional.of(result);
+            }
+            log.debug("Order with id: {} changed since version {}, attempt {} of {}", orderId.getValue(),
+                    order.getVersion(), attempt, maxAttempts);
+        }
+        throw new OrderVersionConflictException("Order with id: " + orderId.getValue()
+                + " changed concurrently on each of " + maxAttempts + " attempts");
+    }
+}
@@ -6,18 +6,31 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Slf4j
 @Validated
 @Service
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
 
+    private final OrderPaymentSaga orderPaymentSaga;
+
+    public PaymentResponseMessageListenerImpl(OrderPaymentSaga orderPaymentSaga) {
+        this.orderPaymentSaga = orderPaymentSaga;
+    }
+
     @Override
     public void paymentCompleted(PaymentResponse paymentResponse) {
-
+        orderPaymentSaga.processPaymentResponses(List.of(paymentResponse));
     }
 
     @Override
     public void paymentCanlleded(PaymentResponse paymentResponse) {
+        orderPaymentSaga.processPaymentResponses(List.of(paymentResponse));
+    }
 
+    @Override
+    public void paymentResponsesReceived(List<PaymentResponse> paymentResponses) {
+        orderPaymentSaga.processPaymentResponses(paymentResponses);
     }
 }
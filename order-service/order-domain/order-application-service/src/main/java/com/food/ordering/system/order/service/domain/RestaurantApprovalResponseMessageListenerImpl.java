@@ -1,6 +1,7 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.logging.OrderLogMarkers;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,13 +12,23 @@ import org.springframework.validation.annotation.Validated;
 @Service
 public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
 
+    private final OrderApprovalSaga orderApprovalSaga;
+
+    public RestaurantApprovalResponseMessageListenerImpl(OrderApprovalSaga orderApprovalSaga) {
+        this.orderApprovalSaga = orderApprovalSaga;
+    }
+
     @Override
     public void orderApprove(RestaurantApprovalResponse restaurantApprovalResponse) {
-
+        orderApprovalSaga.approveOrder(restaurantApprovalResponse);
+        log.info(OrderLogMarkers.ORDER_EVENT, "Order is approved for order id: {}",
+                restaurantApprovalResponse.getOrderId());
     }
 
     @Override
     public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
-
+        orderApprovalSaga.rejectOrder(restaurantApprovalResponse);
+        log.info(OrderLogMarkers.ORDER_EVENT, "Order is rejected for order id: {}",
+                restaurantApprovalResponse.getOrderId());
     }
 }
@@ -0,0 +1,187 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.order.service.domain.config.CustomerCacheConfigData;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Answers {@link #existsCustomerById(UUID)} without the database for repeat and for unknown customers.
+ * <p>
+ * Known customers are kept in a bounded cache. Once {@link #seedNegativeFilter()} has loaded every customer id
+ * into a Bloom filter, the filter tells apart ids that were never seen from ids that might exist. A miss only means
+ * the id is unknown or was created after the scan started, so it is still looked up in the database and never
+ * rejected on the filter alone. When the database does not know it either, the id is kept in a small negative cache
+ * for {@code negative-cache-expire-after-write}, so bots repeating junk ids do not reach the database again. Ids the
+ * filter might contain are not cached negatively, and a customer reported through {@link #customerCreated(UUID)}
+ * is removed from the negative cache.
+ */
+@Slf4j
+public class CachingCustomerRepository implements CustomerRepository {
+
+    private final CustomerRepository customerRepository;
+
+    private final Cache<UUID, Boolean> knownCustomers;
+
+    private final Cache<UUID, Boolean> unknownCustomers;
+
+    private final CustomerCacheConfigData customerCacheConfigData;
+
+    private final LongAdder unknownCustomerHits = new LongAdder();
+
+    private volatile UuidBloomFilter customerFilter;
+
+    private volatile UuidBloomFilter seedingCustomerFilter;
+
+    public CachingCustomerRepository(CustomerRepository customerRepository,
+                                     CustomerCacheConfigData customerCacheConfigData) {
+        this.customerRepository = customerRepository;
+        this.customerCacheConfigData = customerCacheConfigData;
+        this.knownCustomers = Caffeine.newBuilder()
+                .maximumSize(customerCacheConfigData.getMaximumSize())
+                .expireAfterWrite(customerCacheConfigData.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.unknownCustomers = Caffeine.newBuilder()
+                .maximumSize(customerCacheConfigData.getNegativeCacheMaximumSize())
+                .expireAfterWrite(customerCacheConfigData.getNegativeCacheExpireAfterWrite())
+                .build();
+    }
+
+    @Override
+    public Optional<Customer> findCustomerById(UUID customerId) {
+        return customerRepository.findCustomerById(customerId);
+    }
+
+    @Override
+    public boolean existsCustomerById(UUID customerId) {
+        if (knownCustomers.getIfPresent(customerId) != null) {
+            return true;
+        }
+        if (isKnownUnknown(customerId)) {
+            return false;
+        }
+        boolean exists = customerRepository.existsCustomerById(customerId);
+        if (exists) {
+            customerCreated(customerId);
+        } else {
+            customerNotFound(customerId);
+        }
+        return exists;
+    }
+
+    @Override
+    public Set<UUID> findExistingCustomerIds(Collection<UUID> customerIds) {
+        Set<UUID> existingCustomerIds = new HashSet<>();
+        List<UUID> unknownCustomerIds = new ArrayList<>();
+        for (UUID customerId : customerIds) {
+            if (knownCustomers.getIfPresent(customerId) != null) {
+                existingCustomerIds.add(customerId);
+            } else if (!isKnownUnknown(customerId)) {
+                unknownCustomerIds.add(customerId);
+            }
+        }
+        if (!unknownCustomerIds.isEmpty()) {
+            Set<UUID> loadedCustomerIds = customerRepository.findExistingCustomerIds(unknownCustomerIds);
+            for (UUID customerId : unknownCustomerIds) {
+                if (loadedCustomerIds.contains(customerId)) {
+                    customerCreated(customerId);
+                } else {
+                    customerNotFound(customerId);
+                }
+            }
+            existingCustomerIds.addAll(loadedCustomerIds);
+        }
+        return existingCustomerIds;
+    }
+
+    @Override
+    public void forEachCustomerId(Consumer<UUID> action) {
+        customerRepository.forEachCustomerId(action);
+    }
+
+    public void customerCreated(UUID customerId) {
+        knownCustomers.put(customerId, Boolean.TRUE);
+        unknownCustomers.invalidate(customerId);
+        UuidBloomFilter filter = customerFilter;
+        if (filter != null) {
+            filter.put(customerId);
+        }
+        UuidBloomFilter seedingFilter = seedingCustomerFilter;
+        if (seedingFilter != null) {
+            seedingFilter.put(customerId);
+        }
+    }
+
+    /**
+     * Builds a new filter from all customer ids and swaps it in. Customers reported through
+     * {@link #customerCreated(UUID)} while the scan runs are put into both the current and the new filter, and ids
+     * the new filter might contain are dropped from the negative cache.
+     */
+    public synchronized void seedNegativeFilter() {
+        if (!customerCacheConfigData.isNegativeFilterEnabled()) {
+            return;
+        }
+        UuidBloomFilter filter = new UuidBloomFilter(customerCacheConfigData.getNegativeFilterExpectedCustomers(),
+                customerCacheConfigData.getNegativeFilterFalsePositiveProbability());
+        seedingCustomerFilter = filter;
+        LongAdder seeded = new LongAdder();
+        try {
+            customerRepository.forEachCustomerId(customerId -> {
+                filter.put(customerId);
+                seeded.increment();
+            });
+        } catch (UnsupportedOperationException e) {
+            log.warn("Customer negative filter is disabled: {}", e.getMessage());
+            return;
+        } finally {
+            seedingCustomerFilter = null;
+        }
+        customerFilter = filter;
+        unknownCustomers.asMap().keySet().removeIf(filter::mightContain);
+        log.info("Customer negative filter seeded with {} customer ids", seeded.sum());
+    }
+
+    @Scheduled(fixedDelayString = "#{@customerCacheConfigData.negativeFilterRefreshInterval.toMillis()}",
+            initialDelayString = "#{@customerCacheConfigData.negativeFilterRefreshInterval.toMillis()}")
+    public void refreshNegativeFilter() {
+        seedNegativeFilter();
+    }
+
+    public CacheStats stats() {
+        return knownCustomers.stats();
+    }
+
+    public long unknownCustomerHits() {
+        return unknownCustomerHits.sum();
+    }
+
+    private boolean isKnownUnknown(UUID customerId) {
+        if (unknownCustomers.getIfPresent(customerId) == null) {
+            return false;
+        }
+        unknownCustomerHits.increment();
+        return true;
+    }
+
+    private void customerNotFound(UUID customerId) {
+        UuidBloomFilter filter = customerFilter;
+        if (filter != null && !filter.mightContain(customerId)) {
+            unknownCustomers.put(customerId, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderTrackingCacheConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Write-through cache in front of the tracking read model.
+ * <p>
+ * Every tracking entry written by the order lifecycle is put in the cache once its transaction commits, so polls
+ * for recent orders rarely reach the repository and never see a status that was rolled back. The cache is local to
+ * one node, while the saga moves an order on whichever node consumes its response, so nothing tells this node when
+ * another one changes the status. Orders still in progress are therefore only kept for {@code expireAfterWrite},
+ * a few seconds; once an order is {@link OrderStatus#APPROVED} or {@link OrderStatus#CANCELLED} its status cannot
+ * change any more and it is kept for the much longer {@code completedExpireAfterWrite}.
+ * <p>
+ * Commits of two transitions of the same order can run their after-commit callbacks in either order, so an entry
+ * only replaces a cached one whose status is not further along. The number of entries is bounded by
+ * {@code maximumSize}. A miss loads the entry from the repository, and concurrent polls for the same tracking id
+ * share that load.
+ */
+public class CachingOrderTrackingRepository implements OrderTrackingRepository {
+
+    private final OrderTrackingRepository orderTrackingRepository;
+
+    private final Cache<UUID, OrderTracking> orderTrackings;
+
+    public CachingOrderTrackingRepository(OrderTrackingRepository orderTrackingRepository,
+                                          OrderTrackingCacheConfigData orderTrackingCacheConfigData,
+                                          MeterRegistry meterRegistry) {
+        this(orderTrackingRepository, orderTrackingCacheConfigData, meterRegistry, Ticker.systemTicker());
+    }
+
+    CachingOrderTrackingRepository(OrderTrackingRepository orderTrackingRepository,
+                                   OrderTrackingCacheConfigData orderTrackingCacheConfigData,
+                                   MeterRegistry meterRegistry,
+                                   Ticker ticker) {
+        this.orderTrackingRepository = orderTrackingRepository;
+        this.orderTrackings = Caffeine.newBuilder()
+                .maximumSize(orderTrackingCacheConfigData.getMaximumSize())
+                .expireAfter(new OrderStatusExpiry(orderTrackingCacheConfigData.getExpireAfterWrite().toNanos(),
+                        orderTrackingCacheConfigData.getCompletedExpireAfterWrite().toNanos()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, orderTrackings, "order.trackings");
+    }
+
+    @Override
+    public OrderTracking save(OrderTracking orderTracking) {
+        OrderTracking savedOrderTracking = orderTrackingRepository.save(orderTracking);
+        if (savedOrderTracking != null) {
+            afterCommit(() -> cache(savedOrderTracking));
+        }
+        return savedOrderTracking;
+    }
+
+    @Override
+    public List<OrderTracking> saveAll(List<OrderTracking> orderTrackingList) {
+        List<OrderTracking> savedOrderTrackings = orderTrackingRepository.saveAll(orderTrackingList);
+        afterCommit(() -> savedOrderTrackings.forEach(this::cache));
+        return savedOrderTrackings;
+    }
+
+    @Override
+    public Optional<OrderTracking> findByTrackingId(TrackingId trackingId) {
+        return Optional.ofNullable(orderTrackings.get(trackingId.getValue(),
+                key -> orderTrackingRepository.findByTrackingId(trackingId).orElse(null)));
+    }
+
+    public void invalidate(TrackingId trackingId) {
+        orderTrackings.invalidate(trackingId.getValue());
+    }
+
+    public CacheStats stats() {
+        return orderTrackings.stats();
+    }
+
+    public long estimatedSize() {
+        return orderTrackings.estimatedSize();
+    }
+
+    /**
+     * Statuses of one order only move forward through the {@link OrderStatus} constants, PENDING, PAID, APPROVED or
+     * CANELLING and then CANCELLED, so a lower ordinal is always an older status.
+     */
+    private void cache(OrderTracking orderTracking) {
+        orderTrackings.asMap().merge(orderTracking.getTrackingId(), orderTracking, (cached, saved) ->
+                saved.getOrderStatus().ordinal() >= cached.getOrderStatus().ordinal() ? saved : cached);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record OrderStatusExpiry(long expireAfterWriteNanos, long completedExpireAfterWriteNanos)
+            implements Expiry<UUID, OrderTracking> {
+
+        @Override
+        public long expireAfterCreate(UUID trackingId, OrderTracking orderTracking, long currentTime) {
+            OrderStatus orderStatus = orderTracking.getOrderStatus();
+            return orderStatus == OrderStatus.APPROVED || orderStatus == OrderStatus.CANCELLED
+                    ? completedExpireAfterWriteNanos
+                    : expireAfterWriteNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID trackingId, OrderTracking orderTracking, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(trackingId, orderTracking, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID trackingId, OrderTracking orderTracking, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
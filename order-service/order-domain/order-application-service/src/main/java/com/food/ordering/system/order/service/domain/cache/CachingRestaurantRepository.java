@@ -0,0 +1,154 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.config.RestaurantCacheConfigData;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the full menu of each restaurant in front of a {@link RestaurantRepository}.
+ * <p>
+ * Entries are bounded by size (W-TinyLFU) and expire after write. Concurrent misses for the same restaurant are
+ * coalesced into a single load. A restaurant that is not found is not cached, so it is looked up again on the next
+ * request. A cached menu is dropped when a newer menu version is announced through
+ * {@link #menuVersionChanged(RestaurantId, long)}, which {@link #refreshMenuVersions()} does every
+ * {@code menu-version-check-interval} for all cached restaurants, or when an order asks for a product the cached
+ * menu does not know about. The latter reload happens at most once per minimum reload interval, so orders with
+ * unknown products cannot bypass the cache.
+ */
+@Slf4j
+public class CachingRestaurantRepository implements RestaurantRepository {
+
+    private final RestaurantRepository restaurantRepository;
+
+    private final Cache<RestaurantId, CachedMenu> restaurantMenus;
+
+    private final Map<RestaurantId, Long> latestMenuVersions = new ConcurrentHashMap<>();
+
+    private final long minimumReloadIntervalNanos;
+
+    public CachingRestaurantRepository(RestaurantRepository restaurantRepository,
+                                       RestaurantCacheConfigData restaurantCacheConfigData,
+                                       MeterRegistry meterRegistry) {
+        this.restaurantRepository = restaurantRepository;
+        this.restaurantMenus = Caffeine.newBuilder()
+                .maximumSize(restaurantCacheConfigData.getMaximumSize())
+                .expireAfterWrite(restaurantCacheConfigData.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.minimumReloadIntervalNanos = restaurantCacheConfigData.getMinimumReloadInterval().toNanos();
+        CaffeineCacheMetrics.monitor(meterRegistry, restaurantMenus, "restaurant.menus");
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+        CachedMenu cachedMenu = getCachedMenu(restaurant.getId());
+        if (cachedMenu != null && !containsAllProducts(cachedMenu.menu(), restaurant)
+                && System.nanoTime() - cachedMenu.loadedAtNanos() > minimumReloadIntervalNanos) {
+            log.info("Menu of restaurant with id: {} is missing ordered products, reloading it",
+                    restaurant.getId().getValue());
+            restaurantMenus.asMap().remove(restaurant.getId(), cachedMenu);
+            cachedMenu = getCachedMenu(restaurant.getId());
+        }
+        return menuOf(cachedMenu);
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantMenu(RestaurantId restaurantId) {
+        return menuOf(getCachedMenu(restaurantId));
+    }
+
+    /**
+     * Records that the menu of a restaurant changed, so a cached copy older than {@code menuVersion} is not served
+     * again.
+     */
+    public void menuVersionChanged(RestaurantId restaurantId, long menuVersion) {
+        latestMenuVersions.merge(restaurantId, menuVersion, Math::max);
+        CachedMenu cachedMenu = restaurantMenus.getIfPresent(restaurantId);
+        if (cachedMenu != null && isStale(cachedMenu)) {
+            restaurantMenus.asMap().remove(restaurantId, cachedMenu);
+        }
+    }
+
+    /**
+     * Reads the current menu version of every cached restaurant in one lookup, drops the menus that changed and the
+     * restaurants that no longer exist.
+     */
+    @Scheduled(fixedDelayString = "#{@restaurantCacheConfigData.menuVersionCheckInterval.toMillis()}")
+    public void refreshMenuVersions() {
+        List<RestaurantId> cachedRestaurantIds = List.copyOf(restaurantMenus.asMap().keySet());
+        if (cachedRestaurantIds.isEmpty()) {
+            return;
+        }
+        Map<RestaurantId, Long> menuVersions = restaurantRepository.findMenuVersions(cachedRestaurantIds);
+        for (RestaurantId restaurantId : cachedRestaurantIds) {
+            Long menuVersion = menuVersions.get(restaurantId);
+            if (menuVersion == null) {
+                invalidate(restaurantId);
+            } else {
+                menuVersionChanged(restaurantId, menuVersion);
+            }
+        }
+    }
+
+    public void invalidate(RestaurantId restaurantId) {
+        restaurantMenus.invalidate(restaurantId);
+    }
+
+    public CacheStats stats() {
+        return restaurantMenus.stats();
+    }
+
+    public long estimatedSize() {
+        return restaurantMenus.estimatedSize();
+    }
+
+    private CachedMenu getCachedMenu(RestaurantId restaurantId) {
+        CachedMenu cachedMenu = restaurantMenus.get(restaurantId, this::loadMenu);
+        if (cachedMenu != null && isStale(cachedMenu)) {
+            restaurantMenus.asMap().remove(restaurantId, cachedMenu);
+            cachedMenu = restaurantMenus.get(restaurantId, this::loadMenu);
+        }
+        return cachedMenu;
+    }
+
+    private CachedMenu loadMenu(RestaurantId restaurantId) {
+        return restaurantRepository.findRestaurantMenu(restaurantId)
+                .map(restaurant -> new CachedMenu(restaurant, System.nanoTime()))
+                .orElse(null);
+    }
+
+    private boolean isStale(CachedMenu cachedMenu) {
+        Long latestMenuVersion = latestMenuVersions.get(cachedMenu.menu().getId());
+        return latestMenuVersion != null && cachedMenu.menu().getMenuVersion() < latestMenuVersion;
+    }
+
+    private boolean containsAllProducts(Restaurant menu, Restaurant restaurant) {
+        for (Product product : restaurant.getProducts()) {
+            if (menu.findProduct(product.getId()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<Restaurant> menuOf(CachedMenu cachedMenu) {
+        return cachedMenu == null ? Optional.empty() : Optional.of(cachedMenu.menu());
+    }
+
+    private record CachedMenu(Restaurant menu, long loadedAtNanos) {
+    }
+}
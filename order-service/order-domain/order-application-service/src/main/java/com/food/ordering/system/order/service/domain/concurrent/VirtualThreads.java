@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Executor starting a new virtual thread, named {@code namePrefix} followed by a counter, for every task.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 0).factory());
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.customer-cache")
+public class CustomerCacheConfigData {
+
+    private boolean enabled = false;
+
+    private long maximumSize = 100_000;
+
+    private Duration expireAfterWrite = Duration.ofHours(1);
+
+    private boolean negativeFilterEnabled = false;
+
+    private long negativeFilterExpectedCustomers = 1_000_000;
+
+    private double negativeFilterFalsePositiveProbability = 0.01;
+
+    private Duration negativeFilterRefreshInterval = Duration.ofMinutes(5);
+
+    private long negativeCacheMaximumSize = 10_000;
+
+    private Duration negativeCacheExpireAfterWrite = Duration.ofSeconds(30);
+}
@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import com.food.ordering.system.order.service.domain.cache.CachingCustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order-service.customer-cache", name = "enabled", havingValue = "true")
+public class CustomerCacheConfiguration {
+
+    @Bean
+    @Primary
+    public CachingCustomerRepository cachingCustomerRepository(CustomerRepository customerRepository,
+                                                               CustomerCacheConfigData customerCacheConfigData) {
+        return new CachingCustomerRepository(customerRepository, customerCacheConfigData);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order-service.customer-cache", name = "negative-filter-enabled",
+            havingValue = "true")
+    public ApplicationRunner customerNegativeFilterSeeder(CachingCustomerRepository cachingCustomerRepository) {
+        return args -> cachingCustomerRepository.seedNegativeFilter();
+    }
+}
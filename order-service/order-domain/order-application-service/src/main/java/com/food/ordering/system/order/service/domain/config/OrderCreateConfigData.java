@@ -0,0 +1,44 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.create-order")
+public class OrderCreateConfigData {
+
+    /**
+     * Platform threads running the customer and restaurant lookups. 0 starts a virtual thread per lookup instead.
+     */
+    private int lookupThreads = 0;
+
+    /**
+     * How long a create order request waits for both lookups before it fails.
+     */
+    private Duration lookupTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Most items one order may have. Checked with the rest of the command before the lookups.
+     */
+    private int maxItems = 1_000;
+
+    /**
+     * Highest total price of one order. Checked with the rest of the command before the lookups.
+     */
+    private BigDecimal maxPrice = new BigDecimal("100000.00");
+
+    /**
+     * Highest quantity of one order item.
+     */
+    private int maxItemQuantity = 1_000;
+
+    /**
+     * Rejects a command ordering the same product on more than one item.
+     */
+    private boolean rejectDuplicateProducts = true;
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import com.food.ordering.system.order.service.domain.concurrent.VirtualThreads;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class OrderCreateConfiguration {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService orderLookupExecutor(OrderCreateConfigData orderCreateConfigData) {
+        if (orderCreateConfigData.getLookupThreads() > 0) {
+            return Executors.newFixedThreadPool(orderCreateConfigData.getLookupThreads(), lookupThreadFactory());
+        }
+        return VirtualThreads.newThreadPerTaskExecutor("order-lookup-");
+    }
+
+    private ThreadFactory lookupThreadFactory() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "order-lookup-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
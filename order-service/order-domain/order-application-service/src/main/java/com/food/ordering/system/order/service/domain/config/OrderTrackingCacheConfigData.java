@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.tracking-cache")
+public class OrderTrackingCacheConfigData {
+
+    private boolean enabled = false;
+
+    /**
+     * An entry takes about 250 bytes with its key and cache node, so the default stays around 50 MB.
+     */
+    private long maximumSize = 200_000;
+
+    /**
+     * How long a node serves the status of an order still in progress. Another node may move the order on in the
+     * meantime, so this bounds how stale a poll can be.
+     */
+    private Duration expireAfterWrite = Duration.ofSeconds(5);
+
+    /**
+     * How long an approved or cancelled order is kept. Its status cannot change any more.
+     */
+    private Duration completedExpireAfterWrite = Duration.ofHours(1);
+}
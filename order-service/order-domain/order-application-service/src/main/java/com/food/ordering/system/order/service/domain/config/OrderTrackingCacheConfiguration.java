@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import com.food.ordering.system.order.service.domain.cache.CachingOrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order-service.tracking-cache", name = "enabled", havingValue = "true")
+public class OrderTrackingCacheConfiguration {
+
+    @Bean
+    @Primary
+    public CachingOrderTrackingRepository cachingOrderTrackingRepository(
+            OrderTrackingRepository orderTrackingRepository,
+            OrderTrackingCacheConfigData orderTrackingCacheConfigData,
+            MeterRegistry meterRegistry) {
+        return new CachingOrderTrackingRepository(orderTrackingRepository, orderTrackingCacheConfigData,
+                meterRegistry);
+    }
+}
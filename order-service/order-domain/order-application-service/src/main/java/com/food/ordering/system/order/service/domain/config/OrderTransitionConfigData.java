@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.order-transition")
+public class OrderTransitionConfigData {
+
+    /**
+     * Times a status transition is applied to a freshly loaded order before a version conflict is given up on.
+     */
+    private int maxAttempts = 5;
+}
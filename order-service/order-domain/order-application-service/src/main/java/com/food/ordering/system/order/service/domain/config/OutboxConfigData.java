@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.outbox")
+public class OutboxConfigData {
+
+    private int batchSize = 100;
+
+    private Duration lingerTime = Duration.ofMillis(100);
+
+    private int parallelism = 4;
+
+    private int maxAttempts = 5;
+
+    private Duration claimTimeout = Duration.ofMinutes(1);
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableScheduling
+public class OutboxSchedulerConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService orderOutboxRelayExecutor(OutboxConfigData outboxConfigData) {
+        return Executors.newFixedThreadPool(Math.max(1, outboxConfigData.getParallelism()), relayThreadFactory());
+    }
+
+    private ThreadFactory relayThreadFactory() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "order-outbox-relay-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
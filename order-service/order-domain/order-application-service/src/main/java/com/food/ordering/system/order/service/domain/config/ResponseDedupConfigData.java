@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.response-dedup")
+public class ResponseDedupConfigData {
+
+    private boolean enabled = true;
+
+    /**
+     * Redeliveries after a rebalance arrive within seconds to minutes, so this only needs to cover a consumer
+     * restart.
+     */
+    private Duration window = Duration.ofMinutes(10);
+
+    private int buckets = 4;
+
+    /**
+     * Every entry takes 16 bytes of table, so the default stays around 16 MB.
+     */
+    private int maxEntries = 1_000_000;
+}
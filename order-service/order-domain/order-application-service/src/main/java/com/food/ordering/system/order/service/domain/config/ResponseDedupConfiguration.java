@@ -0,0 +1,50 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import com.food.ordering.system.order.service.domain.dedup.DeduplicatingPaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.dedup.DeduplicatingRestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.domain.dedup.ProcessedMessageStore;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order-service.response-dedup", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ResponseDedupConfiguration {
+
+    @Bean
+    public ProcessedMessageStore processedMessageStore(ResponseDedupConfigData responseDedupConfigData,
+                                                       MeterRegistry meterRegistry) {
+        ProcessedMessageStore processedMessageStore = new ProcessedMessageStore(responseDedupConfigData.getWindow(),
+                responseDedupConfigData.getBuckets(), responseDedupConfigData.getMaxEntries(), Clock.systemUTC());
+        FunctionCounter.builder("order.saga.responses.duplicates", processedMessageStore,
+                        ProcessedMessageStore::duplicateCount)
+                .description("Saga responses dropped because this node already processed them")
+                .register(meterRegistry);
+        return processedMessageStore;
+    }
+
+    @Bean
+    @Primary
+    public DeduplicatingPaymentResponseMessageListener deduplicatingPaymentResponseMessageListener(
+            PaymentResponseMessageListener paymentResponseMessageListener,
+            ProcessedMessageStore processedMessageStore) {
+        return new DeduplicatingPaymentResponseMessageListener(paymentResponseMessageListener, processedMessageStore);
+    }
+
+    @Bean
+    @Primary
+    public DeduplicatingRestaurantApprovalResponseMessageListener deduplicatingRestaurantApprovalResponseMessageListener(
+            RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener,
+            ProcessedMessageStore processedMessageStore) {
+        return new DeduplicatingRestaurantApprovalResponseMessageListener(restaurantApprovalResponseMessageListener,
+                processedMessageStore);
+    }
+}
@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.restaurant-cache")
+public class RestaurantCacheConfigData {
+
+    private boolean enabled = false;
+
+    private long maximumSize = 10_000;
+
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    private Duration minimumReloadInterval = Duration.ofSeconds(5);
+
+    private Duration menuVersionCheckInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import com.food.ordering.system.order.service.domain.cache.CachingRestaurantRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order-service.restaurant-cache", name = "enabled", havingValue = "true")
+public class RestaurantCacheConfiguration {
+
+    @Bean
+    @Primary
+    public CachingRestaurantRepository cachingRestaurantRepository(RestaurantRepository restaurantRepository,
+                                                                   RestaurantCacheConfigData restaurantCacheConfigData,
+                                                                   MeterRegistry meterRegistry) {
+        return new CachingRestaurantRepository(restaurantRepository, restaurantCacheConfigData, meterRegistry);
+    }
+}
@@ -0,0 +1,84 @@
+package com.food.ordering.system.order.service.domain.dedup;
+
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drops payment responses that were already processed, or that occur twice in the same batch, before they reach
+ * the saga and cause an order load. Responses are recorded as processed only once the delegate has returned, so a
+ * batch that fails is processed again in full when it is redelivered.
+ */
+@Slf4j
+public class DeduplicatingPaymentResponseMessageListener implements PaymentResponseMessageListener {
+
+    private final PaymentResponseMessageListener paymentResponseMessageListener;
+
+    private final ProcessedMessageStore processedMessageStore;
+
+    public DeduplicatingPaymentResponseMessageListener(PaymentResponseMessageListener paymentResponseMessageListener,
+                                                       ProcessedMessageStore processedMessageStore) {
+        this.paymentResponseMessageListener = paymentResponseMessageListener;
+        this.processedMessageStore = processedMessageStore;
+    }
+
+    @Override
+    public void paymentCompleted(PaymentResponse paymentResponse) {
+        if (isDuplicate(paymentResponse)) {
+            return;
+        }
+        paymentResponseMessageListener.paymentCompleted(paymentResponse);
+        processed(paymentResponse);
+    }
+
+    @Override
+    public void paymentCanlleded(PaymentResponse paymentResponse) {
+        if (isDuplicate(paymentResponse)) {
+            return;
+        }
+        paymentResponseMessageListener.paymentCanlleded(paymentResponse);
+        processed(paymentResponse);
+    }
+
+    @Override
+    public void paymentResponsesReceived(List<PaymentResponse> paymentResponses) {
+        List<PaymentResponse> newPaymentResponses = new ArrayList<>(paymentResponses.size());
+        Set<String> batchKeys = new HashSet<>();
+        for (PaymentResponse paymentResponse : paymentResponses) {
+            if (!isDuplicate(paymentResponse) && (paymentResponse.getId() == null
+                    || batchKeys.add(paymentResponse.getId() + SagaStep.of(paymentResponse)))) {
+                newPaymentResponses.add(paymentResponse);
+            }
+        }
+        if (newPaymentResponses.size() < paymentResponses.size()) {
+            log.info("{} duplicate payment responses dropped from a batch of {}",
+                    paymentResponses.size() - newPaymentResponses.size(), paymentResponses.size());
+        }
+        if (newPaymentResponses.isEmpty()) {
+            return;
+        }
+        paymentResponseMessageListener.paymentResponsesReceived(newPaymentResponses);
+        newPaymentResponses.forEach(this::processed);
+    }
+
+    private boolean isDuplicate(PaymentResponse paymentResponse) {
+        if (paymentResponse.getId() != null
+                && processedMessageStore.contains(paymentResponse.getId(), SagaStep.of(paymentResponse))) {
+            log.debug("Payment response with id: {} for order id: {} was already processed", paymentResponse.getId(),
+                    paymentResponse.getOrderId());
+            return true;
+        }
+        return false;
+    }
+
+    private void processed(PaymentResponse paymentResponse) {
+        if (paymentResponse.getId() != null) {
+            processedMessageStore.add(paymentResponse.getId(), SagaStep.of(paymentResponse));
+        }
+    }
+}
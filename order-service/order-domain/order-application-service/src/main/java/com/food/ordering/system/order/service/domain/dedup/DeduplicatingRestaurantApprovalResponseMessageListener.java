@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.domain.dedup;
+
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drops restaurant approval responses that were already processed before they reach the saga and cause an order
+ * load. A response is recorded as processed only once the delegate has returned.
+ */
+@Slf4j
+public class DeduplicatingRestaurantApprovalResponseMessageListener implements RestaurantApprovalResponseMessageListener {
+
+    private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+
+    private final ProcessedMessageStore processedMessageStore;
+
+    public DeduplicatingRestaurantApprovalResponseMessageListener(
+            RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener,
+            ProcessedMessageStore processedMessageStore) {
+        this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
+        this.processedMessageStore = processedMessageStore;
+    }
+
+    @Override
+    public void orderApprove(RestaurantApprovalResponse restaurantApprovalResponse) {
+        if (isDuplicate(restaurantApprovalResponse)) {
+            return;
+        }
+        restaurantApprovalResponseMessageListener.orderApprove(restaurantApprovalResponse);
+        processed(restaurantApprovalResponse);
+    }
+
+    @Override
+    public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
+        if (isDuplicate(restaurantApprovalResponse)) {
+            return;
+        }
+        restaurantApprovalResponseMessageListener.orderRejected(restaurantApprovalResponse);
+        processed(restaurantApprovalResponse);
+    }
+
+    private boolean isDuplicate(RestaurantApprovalResponse restaurantApprovalResponse) {
+        if (restaurantApprovalResponse.getId() != null && processedMessageStore.contains(
+                restaurantApprovalResponse.getId(), SagaStep.of(restaurantApprovalResponse))) {
+            log.debug("Restaurant approval response with id: {} for order id: {} was already processed",
+                    restaurantApprovalResponse.getId(), restaurantApprovalResponse.getOrderId());
+            return true;
+        }
+        return false;
+    }
+
+    private void processed(RestaurantApprovalResponse restaurantApprovalResponse) {
+        if (restaurantApprovalResponse.getId() != null) {
+            processedMessageStore.add(restaurantApprovalResponse.getId(), SagaStep.of(restaurantApprovalResponse));
+        }
+    }
+}
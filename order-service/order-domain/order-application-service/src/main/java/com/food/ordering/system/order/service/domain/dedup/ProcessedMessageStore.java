@@ -0,0 +1,161 @@
+package com.food.ordering.system.order.service.domain.dedup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers which responses were processed recently, in a fixed amount of memory.
+ * <p>
+ * Every message id and {@link SagaStep} pair is reduced to a 64-bit hash kept in one of {@code buckets} open
+ * addressing {@code long} tables. Each bucket covers {@code window / buckets} of time; when the current bucket
+ * expires or fills up, the oldest bucket is cleared and becomes the current one. An entry is therefore remembered for
+ * at least {@code window * (buckets - 1) / buckets} unless more than {@code maxEntries} were added in that time, and
+ * the tables never grow.
+ * <p>
+ * A hash collision makes a response look like a duplicate; with 64-bit hashes and a million entries remembered, the
+ * chance is below one in 10^13 per lookup.
+ * <p>
+ * The store lives in the memory of one node, so only redeliveries to the node that processed the response are
+ * dropped here. After a rebalance the partition moves to another consumer whose store has never seen its ids, and
+ * after a restart the store is empty; those redeliveries, like anything older than the window, are only rejected by
+ * the order status check in the sagas, after the order was loaded.
+ */
+public class ProcessedMessageStore {
+
+    private static final long EMPTY = 0L;
+
+    private final Clock clock;
+
+    private final long sliceMillis;
+
+    private final int bucketCapacity;
+
+    private final long[][] buckets;
+
+    private final int[] sizes;
+
+    private final LongAdder duplicates = new LongAdder();
+
+    private int current;
+
+    private long currentSlice;
+
+    public ProcessedMessageStore(Duration window, int buckets, int maxEntries, Clock clock) {
+        int bucketCount = Math.max(2, buckets);
+        this.clock = clock;
+        this.sliceMillis = Math.max(1L, window.toMillis() / bucketCount);
+        this.bucketCapacity = Math.max(16, maxEntries / bucketCount);
+        int tableSize = Integer.highestOneBit(bucketCapacity * 2 - 1) << 1;
+        this.buckets = new long[bucketCount][tableSize];
+        this.sizes = new int[bucketCount];
+        this.currentSlice = clock.millis() / sliceMillis;
+    }
+
+    /**
+     * @return {@code true} when this response was recorded as processed within the window
+     */
+    public boolean contains(String messageId, SagaStep sagaStep) {
+        long key = key(messageId, sagaStep);
+        synchronized (this) {
+            rotate();
+            for (int i = 0; i < buckets.length; i++) {
+                if (contains(buckets[i], key)) {
+                    duplicates.increment();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public void add(String messageId, SagaStep sagaStep) {
+        long key = key(messageId, sagaStep);
+        synchronized (this) {
+            rotate();
+            if (sizes[current] >= bucketCapacity) {
+                advance();
+            }
+            if (insert(buckets[current], key)) {
+                sizes[current]++;
+            }
+        }
+    }
+
+    /**
+     * Number of lookups that found a processed response since startup.
+     */
+    public long duplicateCount() {
+        return duplicates.sum();
+    }
+
+    private void rotate() {
+        long slice = clock.millis() / sliceMillis;
+        long elapsed = Math.min(slice - currentSlice, buckets.length);
+        for (long i = 0; i < elapsed; i++) {
+            advance();
+        }
+        if (slice > currentSlice) {
+            currentSlice = slice;
+        }
+    }
+
+    private void advance() {
+        current = (current + 1) % buckets.length;
+        Arrays.fill(buckets[current], EMPTY);
+        sizes[current] = 0;
+    }
+
+    private static boolean contains(long[] table, long key) {
+        int mask = table.length - 1;
+        for (int index = (int) key & mask; ; index = (index + 1) & mask) {
+            long slot = table[index];
+            if (slot == key) {
+                return true;
+            }
+            if (slot == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean insert(long[] table, long key) {
+        int mask = table.length - 1;
+        for (int index = (int) key & mask; ; index = (index + 1) & mask) {
+            long slot = table[index];
+            if (slot == key) {
+                return false;
+            }
+            if (slot == EMPTY) {
+                table[index] = key;
+                return true;
+            }
+        }
+    }
+
+    private static long key(String messageId, SagaStep sagaStep) {
+        long high;
+        long low;
+        try {
+            UUID uuid = UUID.fromString(messageId);
+            high = uuid.getMostSignificantBits();
+            low = uuid.getLeastSignificantBits();
+        } catch (IllegalArgumentException e) {
+            high = messageId.hashCode();
+            low = messageId.length();
+            for (int i = 0; i < messageId.length(); i++) {
+                low = low * 0x100000001b3L ^ messageId.charAt(i);
+            }
+        }
+        long key = mix(high ^ mix(low + sagaStep.ordinal() * 0x9e3779b97f4a7c15L));
+        return key == EMPTY ? 1L : key;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
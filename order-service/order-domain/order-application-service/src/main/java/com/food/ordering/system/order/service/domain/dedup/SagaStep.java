@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.dedup;
+
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+
+/**
+ * The saga transition a response triggers. A message id is only considered a duplicate for the same step.
+ */
+public enum SagaStep {
+
+    PAYMENT_COMPLETED,
+    PAYMENT_CANCELLED,
+    RESTAURANT_APPROVED,
+    RESTAURANT_REJECTED;
+
+    public static SagaStep of(PaymentResponse paymentResponse) {
+        return switch (paymentResponse.getPaymentStatus()) {
+            case COMPLETED -> PAYMENT_COMPLETED;
+            case CANCELLED, FAILED -> PAYMENT_CANCELLED;
+        };
+    }
+
+    public static SagaStep of(RestaurantApprovalResponse restaurantApprovalResponse) {
+        return switch (restaurantApprovalResponse.getOrderApprovalStatus()) {
+            case APPROVED -> RESTAURANT_APPROVED;
+            case REJECTED -> RESTAURANT_REJECTED;
+        };
+    }
+}
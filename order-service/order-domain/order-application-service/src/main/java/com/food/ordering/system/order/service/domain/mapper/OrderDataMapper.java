@@ -1,18 +1,22 @@
 package com.food.ordering.system.order.service.domain.mapper;
 
 
+import com.food.ordering.system.domain.id.UuidGenerator;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.OrderCreateOutcome;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import org.springframework.stereotype.Component;
 
@@ -22,6 +26,16 @@ import java.util.UUID;
 @Component
 public class OrderDataMapper {
 
+    private final UuidGenerator addressIdGenerator;
+
+    public OrderDataMapper() {
+        this(UuidGenerator.timeOrdered());
+    }
+
+    public OrderDataMapper(UuidGenerator addressIdGenerator) {
+        this.addressIdGenerator = addressIdGenerator;
+    }
+
     public Restaurant createOrderCommandToRestaurant(CreateOrderCommand createOrderCommand) {
         return Restaurant.Builder.builder()
                 .restaurantId(new RestaurantId(createOrderCommand.getRestaurantId()))
@@ -29,6 +43,18 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public Restaurant createOrderCommandsToRestaurant(UUID restaurantId, List<CreateOrderCommand> createOrderCommands) {
+        return Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(restaurantId))
+                .products(createOrderCommands.stream()
+                        .flatMap(createOrderCommand -> createOrderCommand.getItems().stream())
+                        .map(orderItem -> orderItem.productId())
+                        .distinct()
+                        .map(productId -> new Product(new ProductId(productId)))
+                        .toList())
+                .build();
+    }
+
     public Order createOrderCommandToOrder(CreateOrderCommand createOrderCommand) {
         return Order.Builder.builder()
                 .customerId(new CustomerId(createOrderCommand.getCustomerId()))
@@ -48,11 +74,22 @@ public class OrderDataMapper {
                 .build();
     }
 
-    public TrackOrderResponse orderToTrackOrderResponse(Order order) {
+    public CreateOrderResult orderCreateOutcomeToCreateOrderResult(OrderCreateOutcome orderCreateOutcome, String message) {
+        if (!orderCreateOutcome.isCreated()) {
+            return CreateOrderResult.builder()
+                    .failureMessage(orderCreateOutcome.getFailureMessage())
+                    .build();
+        }
+        return CreateOrderResult.builder()
+                .createOrderResponse(orderToCreateOrderResponse(orderCreateOutcome.getOrderCreatedEvent().getOrder(), message))
+                .build();
+    }
+
+    public TrackOrderResponse orderTrackingToTrackOrderResponse(OrderTracking orderTracking) {
         return TrackOrderResponse.builder()
-                .orderTrackingId(order.getTrackingId().getValue())
-                .orderStatus(order.getOrderStatus())
-                .failureMessages(order.getFailureMessagges()).
+                .orderTrackingId(orderTracking.getTrackingId())
+                .orderStatus(orderTracking.getOrderStatus())
+                .failureMessages(orderTracking.getFailureMessages()).
                 build();
     }
 
@@ -70,7 +107,7 @@ public class OrderDataMapper {
 
     private StreetAddress orderAddresToStreetAddres(OrderAddress address) {
         return new StreetAddress(
-                UUID.randomUUID(),
+                addressIdGenerator.generate(),
                 address.getStreet(),
                 address.getPostalCode(),
                 address.getCity()
@@ -0,0 +1,14 @@
+package com.food.ordering.system.order.service.domain.metrics;
+
+/**
+ * The stages of creating a single order, each timed on its own.
+ */
+public enum OrderCreateStage {
+
+    CUSTOMER_CHECK,
+    RESTAURANT_CHECK,
+    MAPPING,
+    VALIDATION,
+    SAVE,
+    PUBLISH
+}
@@ -0,0 +1,132 @@
+package com.food.ordering.system.order.service.domain.metrics;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.validation.CreateOrderRejection;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the order pipeline:
+ * <ul>
+ *     <li>{@code order.create.stage}: time of each {@link OrderCreateStage} of a single order, tagged by stage</li>
+ *     <li>{@code order.create.rejections}: commands rejected before the lookups, tagged by
+ *     {@link CreateOrderRejection} reason</li>
+ *     <li>{@code order.saga}: time to handle a payment batch or an approval response, tagged by saga</li>
+ *     <li>{@code order.saga.payment.batch.size}: payment responses per batch</li>
+ *     <li>{@code order.saga.transitions}: attempted {@link SagaTransition}s, tagged by transition and by the order
+ *     status after the attempt. A rejected transition counts with the status the order stayed in, and a transition
+ *     repeated after a version conflict counts again.</li>
+ * </ul>
+ * Every meter is registered when this class is created, and the timers publish percentile histograms. Recording only
+ * indexes an array, so it builds no tags and does not look a meter up in the registry.
+ */
+@Component
+public class OrderMetrics {
+
+    private static final OrderCreateStage[] CREATE_STAGES = OrderCreateStage.values();
+    private static final CreateOrderRejection[] CREATE_REJECTIONS = CreateOrderRejection.values();
+    private static final SagaTransition[] SAGA_TRANSITIONS = SagaTransition.values();
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+    private static final Duration MINIMUM_EXPECTED_DURATION = Duration.ofNanos(1_000);
+    private static final Duration MAXIMUM_EXPECTED_DURATION = Duration.ofSeconds(30);
+
+    private final Clock clock;
+
+    private final Timer[] createStageTimers;
+
+    private final Counter[] createRejectionCounters;
+
+    private final Timer paymentSagaTimer;
+
+    private final Timer approvalSagaTimer;
+
+    private final DistributionSummary paymentBatchSize;
+
+    private final Counter[][] transitionCounters;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        this.clock = meterRegistry.config().clock();
+        this.createStageTimers = new Timer[CREATE_STAGES.length];
+        for (OrderCreateStage stage : CREATE_STAGES) {
+            createStageTimers[stage.ordinal()] = timer("order.create.stage", "stage", tagValue(stage),
+                    "Time of a stage of creating an order", meterRegistry);
+        }
+        this.createRejectionCounters = new Counter[CREATE_REJECTIONS.length];
+        for (CreateOrderRejection reason : CREATE_REJECTIONS) {
+            createRejectionCounters[reason.ordinal()] = Counter.builder("order.create.rejections")
+                    .description("Create order commands rejected before the customer and restaurant lookups")
+                    .tag("reason", tagValue(reason))
+                    .register(meterRegistry);
+        }
+        this.paymentSagaTimer = timer("order.saga", "saga", "payment", "Time to handle a batch of payment responses",
+                meterRegistry);
+        this.approvalSagaTimer = timer("order.saga", "saga", "approval",
+                "Time to handle a restaurant approval response", meterRegistry);
+        this.paymentBatchSize = DistributionSummary.builder("order.saga.payment.batch.size")
+                .description("Payment responses handled in one batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.transitionCounters = new Counter[SAGA_TRANSITIONS.length][ORDER_STATUSES.length];
+        for (SagaTransition transition : SAGA_TRANSITIONS) {
+            for (OrderStatus orderStatus : ORDER_STATUSES) {
+                transitionCounters[transition.ordinal()][orderStatus.ordinal()] = Counter
+                        .builder("order.saga.transitions")
+                        .description("Order transitions attempted by the sagas, by the order status they left")
+                        .tag("transition", tagValue(transition))
+                        .tag("status", orderStatus.name())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * Start of a measurement, to pass to one of the record methods.
+     */
+    public long startTime() {
+        return clock.monotonicTime();
+    }
+
+    public void recordCreateStage(OrderCreateStage stage, long startTime) {
+        createStageTimers[stage.ordinal()].record(clock.monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCreateRejection(CreateOrderRejection reason) {
+        createRejectionCounters[reason.ordinal()].increment();
+    }
+
+    public void recordPaymentResponses(int batchSize, long startTime) {
+        paymentSagaTimer.record(clock.monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+        paymentBatchSize.record(batchSize);
+    }
+
+    public void recordApprovalResponse(long startTime) {
+        approvalSagaTimer.record(clock.monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTransition(SagaTransition transition, OrderStatus orderStatus) {
+        transitionCounters[transition.ordinal()][orderStatus.ordinal()].increment();
+    }
+
+    private static Timer timer(String name, String tagKey, String tagValue, String description,
+                               MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_EXPECTED_DURATION)
+                .maximumExpectedValue(MAXIMUM_EXPECTED_DURATION)
+                .register(meterRegistry);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.domain.metrics;
+
+/**
+ * The order transition a saga response asks for. Cancel covers both the payment cancellation and the cancel started
+ * by a restaurant rejection.
+ */
+public enum SagaTransition {
+
+    PAY,
+    APPROVE,
+    CANCEL
+}
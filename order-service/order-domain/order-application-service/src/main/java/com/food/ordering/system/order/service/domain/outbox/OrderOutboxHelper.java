@@ -0,0 +1,69 @@
+package com.food.ordering.system.order.service.domain.outbox;
+
+import com.food.ordering.system.domain.id.UuidGenerator;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderEventType;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class OrderOutboxHelper {
+
+    private static final UuidGenerator OUTBOX_ID_GENERATOR = UuidGenerator.timeOrdered();
+
+    private final OrderOutboxRepository orderOutboxRepository;
+
+    public OrderOutboxHelper(OrderOutboxRepository orderOutboxRepository) {
+        this.orderOutboxRepository = orderOutboxRepository;
+    }
+
+    @Transactional
+    public void saveOrderEvent(OrderEvent orderEvent) {
+        OrderOutboxMessage orderOutboxMessage = orderOutboxRepository.save(orderEventToOutboxMessage(orderEvent));
+        if (orderOutboxMessage == null) {
+            log.error("Could not save outbox message for order id: {}", orderEvent.getPayload().orderId());
+            throw new OrderDomainException("Could not save outbox message for order id: "
+                    + orderEvent.getPayload().orderId());
+        }
+    }
+
+    @Transactional
+    public void saveOrderEvents(List<? extends OrderEvent> orderEvents) {
+        orderOutboxRepository.saveAll(orderEvents.stream().map(this::orderEventToOutboxMessage).toList());
+    }
+
+    private OrderOutboxMessage orderEventToOutboxMessage(OrderEvent orderEvent) {
+        return OrderOutboxMessage.builder()
+                .id(OUTBOX_ID_GENERATOR.generate())
+                .orderId(orderEvent.getPayload().orderId())
+                .createdAt(orderEvent.getCreatedAtInstant())
+                .eventType(orderEventType(orderEvent))
+                .payload(orderEvent.getPayload())
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+
+    private OrderEventType orderEventType(OrderEvent orderEvent) {
+        if (orderEvent instanceof OrderCreatedEvent) {
+            return OrderEventType.ORDER_CREATED;
+        }
+        if (orderEvent instanceof OrderPaidEvent) {
+            return OrderEventType.ORDER_PAID;
+        }
+        if (orderEvent instanceof OrderCancelledEvent) {
+            return OrderEventType.ORDER_CANCELLED;
+        }
+        throw new OrderDomainException("Unsupported order event type: " + orderEvent.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,5 @@
+package com.food.ordering.system.order.service.domain.outbox.model;
+
+public enum OrderEventType {
+    ORDER_CREATED, ORDER_PAID, ORDER_CANCELLED
+}
@@ -0,0 +1,35 @@
+package com.food.ordering.system.order.service.domain.outbox.model;
+
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderOutboxMessage {
+
+    private final UUID id;
+
+    private final UUID orderId;
+
+    private final Instant createdAt;
+
+    private final OrderEventType eventType;
+
+    private final OrderEventPayload payload;
+
+    @Setter
+    private Instant processedAt;
+
+    @Setter
+    private OutboxStatus outboxStatus;
+
+    @Setter
+    private int attempts;
+}
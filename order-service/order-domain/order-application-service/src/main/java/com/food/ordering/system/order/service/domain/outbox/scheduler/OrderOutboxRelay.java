@@ -0,0 +1,128 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OutboxConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRquestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Drains the order outbox and publishes its events.
+ * <p>
+ * Each run claims up to {@code batch-size} pending messages and hands them all to the asynchronous publishers
+ * without waiting for acknowledgements in between; only the events of one order are chained, so that an event is
+ * sent after the previous event of its order was acknowledged. A full batch is followed by the next one right away;
+ * otherwise the relay waits {@code linger-time} before polling again. A message that cannot be published stays
+ * pending until it has failed {@code max-attempts} times, and later messages of the same order wait for the next
+ * batch. Chained sends run on the {@code orderOutboxRelayExecutor} pool rather than on the transport's callback
+ * thread. Claimed messages are not handed to other relay instances until their new status is stored or
+ * {@code claim-timeout} has passed.
+ */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+    private final OrderPaidRestaurantRquestMessagePublisher orderPaidRestaurantRquestMessagePublisher;
+    private final OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher;
+    private final OutboxConfigData outboxConfigData;
+    private final Executor relayExecutor;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher,
+                            OrderPaidRestaurantRquestMessagePublisher orderPaidRestaurantRquestMessagePublisher,
+                            OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher,
+                            OutboxConfigData outboxConfigData,
+                            Executor orderOutboxRelayExecutor) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+        this.orderPaidRestaurantRquestMessagePublisher = orderPaidRestaurantRquestMessagePublisher;
+        this.orderCancelledPaymentRequestMessagePublisher = orderCancelledPaymentRequestMessagePublisher;
+        this.outboxConfigData = outboxConfigData;
+        this.relayExecutor = orderOutboxRelayExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "#{@outboxConfigData.lingerTime.toMillis()}")
+    public void relayOutboxMessages() {
+        int published;
+        do {
+            published = relayBatch();
+        } while (published == outboxConfigData.getBatchSize());
+    }
+
+    /**
+     * Publishes one batch of pending messages and stores their new status.
+     *
+     * @return the number of messages published successfully
+     */
+    public int relayBatch() {
+        List<OrderOutboxMessage> messages = orderOutboxRepository.claimByOutboxStatus(OutboxStatus.STARTED,
+                outboxConfigData.getBatchSize(), outboxConfigData.getClaimTimeout());
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, CompletableFuture<Boolean>> lastByOrderId = new HashMap<>();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(messages.size());
+        for (OrderOutboxMessage message : messages) {
+            CompletableFuture<Boolean> previous = lastByOrderId.get(message.getOrderId());
+            CompletableFuture<Boolean> result = previous == null
+                    ? publish(message)
+                    : previous.thenComposeAsync(published -> published
+                    ? publish(message) : CompletableFuture.completedFuture(false), relayExecutor);
+            lastByOrderId.put(message.getOrderId(), result);
+            results.add(result);
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+        int published = 0;
+        for (CompletableFuture<Boolean> result : results) {
+            if (result.join()) {
+                published++;
+            }
+        }
+        orderOutboxRepository.updateAll(messages);
+        log.info("{} of {} outbox messages published", published, messages.size());
+        return published;
+    }
+
+    private CompletableFuture<Boolean> publish(OrderOutboxMessage message) {
+        CompletableFuture<Void> sent;
+        try {
+            sent = switch (message.getEventType()) {
+                case ORDER_CREATED -> orderCreatedPaymentRequestMessagePublisher.publishAsync(message.getPayload());
+                case ORDER_PAID -> orderPaidRestaurantRquestMessagePublisher.publishAsync(message.getPayload());
+                case ORDER_CANCELLED -> orderCancelledPaymentRequestMessagePublisher.publishAsync(message.getPayload());
+            };
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        return sent.handle((result, error) -> {
+            if (error == null) {
+                message.setOutboxStatus(OutboxStatus.COMPLETED);
+                message.setProcessedAt(Instant.now());
+                return true;
+            }
+            message.setAttempts(message.getAttempts() + 1);
+            if (message.getAttempts() >= outboxConfigData.getMaxAttempts()) {
+                message.setOutboxStatus(OutboxStatus.FAILED);
+            }
+            log.error("Could not publish outbox message with id: {} for order id: {}, attempt {}",
+                    message.getId(), message.getOrderId(), message.getAttempts(), error);
+            return false;
+        });
+    }
+}
@@ -2,10 +2,17 @@ package com.food.ordering.system.order.service.domain.ports.input.message.listen
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 
+import java.util.List;
+
 public interface PaymentResponseMessageListener {
 
     void paymentCompleted(PaymentResponse paymentResponse);
 
     void paymentCanlleded(PaymentResponse paymentResponse);
 
+    /**
+     * Applies a batch of payment responses, completed and cancelled alike, in the order they were received.
+     */
+    void paymentResponsesReceived(List<PaymentResponse> paymentResponses);
+
 }
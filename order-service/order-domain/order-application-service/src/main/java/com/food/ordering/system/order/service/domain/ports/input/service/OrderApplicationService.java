@@ -2,14 +2,19 @@ package com.food.ordering.system.order.service.domain.ports.input.service;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 public interface OrderApplicationService {
 
      CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
 
+     List<CreateOrderResult> createOrders(List<CreateOrderCommand> createOrderCommands);
+
      TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
 
 }
@@ -1,7 +1,7 @@
 package com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
-import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.domain.event.publisher.AsyncDomainEventPublisher;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
 
-public interface OrderCancelledPaymentRequestMessagePublisher extends DomainEventPublisher<OrderCancelledEvent> {
+public interface OrderCancelledPaymentRequestMessagePublisher extends AsyncDomainEventPublisher<OrderEventPayload> {
 }
@@ -1,8 +1,8 @@
 package com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
-import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.domain.event.publisher.AsyncDomainEventPublisher;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
 
-public interface OrderCreatedPaymentRequestMessagePublisher extends DomainEventPublisher<OrderCreatedEvent> {
+public interface OrderCreatedPaymentRequestMessagePublisher extends AsyncDomainEventPublisher<OrderEventPayload> {
 
 }
@@ -1,7 +1,7 @@
 package com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
-import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.domain.event.publisher.AsyncDomainEventPublisher;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
 
-public interface OrderPaidRestaurantRquestMessagePublisher extends DomainEventPublisher<OrderPaidEvent> {
+public interface OrderPaidRestaurantRquestMessagePublisher extends AsyncDomainEventPublisher<OrderEventPayload> {
 }
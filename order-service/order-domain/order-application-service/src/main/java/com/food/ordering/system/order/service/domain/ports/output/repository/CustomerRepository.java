@@ -2,9 +2,29 @@ package com.food.ordering.system.order.service.domain.ports.output.repository;
 
 import com.food.ordering.system.order.service.domain.entity.Customer;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public interface CustomerRepository {
     Optional<Customer> findCustomerById(UUID customerId);
+
+    default boolean existsCustomerById(UUID customerId) {
+        return findCustomerById(customerId).isPresent();
+    }
+
+    default Set<UUID> findExistingCustomerIds(Collection<UUID> customerIds) {
+        return customerIds.stream().filter(this::existsCustomerById).collect(Collectors.toSet());
+    }
+
+    /**
+     * Passes the id of every customer to {@code action}. Adapters that cannot list their customers keep this
+     * default, which throws {@link UnsupportedOperationException}.
+     */
+    default void forEachCustomerId(Consumer<UUID> action) {
+        throw new UnsupportedOperationException("Customer ids cannot be listed by " + getClass().getSimpleName());
+    }
 }
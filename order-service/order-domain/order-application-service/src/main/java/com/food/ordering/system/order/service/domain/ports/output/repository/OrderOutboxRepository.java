@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface OrderOutboxRepository {
+
+    OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage);
+
+    default List<OrderOutboxMessage> saveAll(List<OrderOutboxMessage> orderOutboxMessages) {
+        return orderOutboxMessages.stream().map(this::save).toList();
+    }
+
+    /**
+     * Returns at most {@code limit} messages in the given status, oldest first, without claiming them.
+     */
+    List<OrderOutboxMessage> findByOutboxStatus(OutboxStatus outboxStatus, int limit);
+
+    /**
+     * Claims at most {@code limit} messages in the given status that no other relay holds a claim on, oldest first,
+     * and returns them. The claim is committed before this method returns and lasts until the messages are passed
+     * to {@link #updateAll(List)} or until {@code claimTimeout} has passed, so a relay that dies does not hold its
+     * messages forever. The default does not claim anything and only suits a single relay instance.
+     */
+    default List<OrderOutboxMessage> claimByOutboxStatus(OutboxStatus outboxStatus, int limit, Duration claimTimeout) {
+        return findByOutboxStatus(outboxStatus, limit);
+    }
+
+    /**
+     * Stores the status, attempts and processing time of messages returned by
+     * {@link #claimByOutboxStatus(OutboxStatus, int, Duration)} and ends their claim.
+     */
+    default void updateAll(List<OrderOutboxMessage> orderOutboxMessages) {
+        saveAll(orderOutboxMessages);
+    }
+}
@@ -1,13 +1,44 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
 
     Order save(Order order);
 
+    default List<Order> saveAll(List<Order> orders) {
+        return orders.stream().map(this::save).toList();
+    }
+
+    /**
+     * Saves the status and failure messages of an order loaded at {@link Order#getVersion()} only if the stored order
+     * is still at that version, and moves the order to the next version. Returns false, without writing anything,
+     * when another change to the order was saved in between.
+     */
+    boolean saveIfUnchanged(Order order);
+
+    /**
+     * {@link #saveIfUnchanged(Order)} for several orders. Returns the orders that were not saved because they changed
+     * in between; the others are saved.
+     */
+    default List<Order> saveAllIfUnchanged(List<Order> orders) {
+        return orders.stream().filter(order -> !saveIfUnchanged(order)).toList();
+    }
+
     Optional<Order> findByTrackingId(TrackingId trackingId);
+
+    Optional<Order> findById(OrderId orderId);
+
+    /**
+     * Loads the orders with the given ids that exist, in no particular order.
+     */
+    default List<Order> findByIds(Collection<OrderId> orderIds) {
+        return orderIds.stream().map(this::findById).flatMap(Optional::stream).toList();
+    }
 }
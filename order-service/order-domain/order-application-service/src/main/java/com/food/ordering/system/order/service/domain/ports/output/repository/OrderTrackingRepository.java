@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderTrackingRepository {
+
+    /**
+     * Inserts the tracking entry of a new order or replaces the status and failure messages of an existing one.
+     */
+    OrderTracking save(OrderTracking orderTracking);
+
+    default List<OrderTracking> saveAll(List<OrderTracking> orderTrackings) {
+        return orderTrackings.stream().map(this::save).toList();
+    }
+
+    Optional<OrderTracking> findByTrackingId(TrackingId trackingId);
+}
@@ -1,10 +1,29 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public interface RestaurantRepository {
 
     Optional<Restaurant> findRestaurantInformation(Restaurant restaurant);
+
+    Optional<Restaurant> findRestaurantMenu(RestaurantId restaurantId);
+
+    /**
+     * Returns the current menu version of each given restaurant that still exists. The default loads every menu;
+     * adapters should override it with a cheaper lookup.
+     */
+    default Map<RestaurantId, Long> findMenuVersions(Collection<RestaurantId> restaurantIds) {
+        Map<RestaurantId, Long> menuVersions = new HashMap<>();
+        for (RestaurantId restaurantId : restaurantIds) {
+            findRestaurantMenu(restaurantId).ifPresent(restaurant ->
+                    menuVersions.put(restaurantId, restaurant.getMenuVersion()));
+        }
+        return menuVersions;
+    }
 }
@@ -0,0 +1,56 @@
+package com.food.ordering.system.order.service.domain.tracking;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps the tracking read model in step with the orders. It must be called in the transaction that saves an order,
+ * after every status transition, so that tracking never has to read the order tables.
+ */
+@Slf4j
+@Component
+public class OrderTrackingHelper {
+
+    private final OrderTrackingRepository orderTrackingRepository;
+
+    public OrderTrackingHelper(OrderTrackingRepository orderTrackingRepository) {
+        this.orderTrackingRepository = orderTrackingRepository;
+    }
+
+    @Transactional
+    public void saveOrderTracking(Order order) {
+        OrderTracking orderTracking = orderTrackingRepository.save(orderToOrderTracking(order));
+        if (orderTracking == null) {
+            log.error("Could not save tracking for order id: {}", order.getId().getValue());
+            throw new OrderDomainException("Could not save tracking for order id: " + order.getId().getValue());
+        }
+    }
+
+    @Transactional
+    public void saveOrderTrackings(List<Order> orders) {
+        List<OrderTracking> orderTrackings =
+                orderTrackingRepository.saveAll(orders.stream().map(this::orderToOrderTracking).toList());
+        if (Objects.isNull(orderTrackings) || orderTrackings.size() != orders.size()) {
+            log.error("Could not save order trackings, {} of {} were saved",
+                    orderTrackings == null ? 0 : orderTrackings.size(), orders.size());
+            throw new OrderDomainException("Could not save order trackings!");
+        }
+    }
+
+    private OrderTracking orderToOrderTracking(Order order) {
+        return OrderTracking.builder()
+                .trackingId(order.getTrackingId().getValue())
+                .orderId(order.getId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .failureMessages(order.getFailureMessagges())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.food.ordering.system.order.service.domain.tracking.model;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read model behind order tracking, holding only what a tracking response returns.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderTracking {
+
+    private final UUID trackingId;
+
+    private final UUID orderId;
+
+    private final OrderStatus orderStatus;
+
+    private final List<String> failureMessages;
+}
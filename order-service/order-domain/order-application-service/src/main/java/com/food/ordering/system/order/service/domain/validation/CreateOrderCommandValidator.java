@@ -0,0 +1,110 @@
+package com.food.ordering.system.order.service.domain.validation;
+
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Checks a {@link CreateOrderCommand} on its own, before the customer and restaurant lookups, so a malformed command
+ * costs no repository call:
+ * <ul>
+ *     <li>{@link CreateOrderRejection#ITEM_COUNT}: no items, or more than {@code maxItems}</li>
+ *     <li>{@link CreateOrderRejection#TOTAL_PRICE}: total price missing, not positive, or above {@code maxPrice}</li>
+ *     <li>{@link CreateOrderRejection#PRODUCT_ID}: an item without a product id, or a product ordered on two items
+ *     when {@code rejectDuplicateProducts} is set</li>
+ *     <li>{@link CreateOrderRejection#ITEM_QUANTITY}: quantity missing, below 1, or above {@code maxItemQuantity}</li>
+ *     <li>{@link CreateOrderRejection#ITEM_PRICE}: item price missing or not positive</li>
+ *     <li>{@link CreateOrderRejection#ITEM_SUBTOTAL}: subtotal missing or not the item price times the quantity</li>
+ *     <li>{@link CreateOrderRejection#TOTAL_MISMATCH}: subtotals not adding up to the total price</li>
+ * </ul>
+ * Amounts are compared by value. Whether the products and prices match the menu is left to the domain validation.
+ * A rejection throws an {@link OrderDomainException} and is counted by reason in {@link OrderMetrics}. It is only
+ * logged at debug, because malformed commands arrive in bursts and the counters already show them.
+ */
+@Slf4j
+@Component
+public class CreateOrderCommandValidator {
+
+    private final int maxItems;
+
+    private final BigDecimal maxPrice;
+
+    private final int maxItemQuantity;
+
+    private final boolean rejectDuplicateProducts;
+
+    private final OrderMetrics orderMetrics;
+
+    public CreateOrderCommandValidator(OrderCreateConfigData orderCreateConfigData, OrderMetrics orderMetrics) {
+        this.maxItems = orderCreateConfigData.getMaxItems();
+        this.maxPrice = orderCreateConfigData.getMaxPrice();
+        this.maxItemQuantity = orderCreateConfigData.getMaxItemQuantity();
+        this.rejectDuplicateProducts = orderCreateConfigData.isRejectDuplicateProducts();
+        this.orderMetrics = orderMetrics;
+    }
+
+    public void validate(CreateOrderCommand createOrderCommand) {
+        List<OrderItem> items = createOrderCommand.getItems();
+        int itemCount = items == null ? 0 : items.size();
+        if (itemCount == 0 || itemCount > maxItems) {
+            throw reject(CreateOrderRejection.ITEM_COUNT, "Order must have between 1 and " + maxItems + " items!");
+        }
+        BigDecimal price = createOrderCommand.getPrice();
+        if (price == null || price.signum() <= 0 || price.compareTo(maxPrice) > 0) {
+            throw reject(CreateOrderRejection.TOTAL_PRICE,
+                    "Total price must be greater than zero and at most " + maxPrice + "!");
+        }
+        Set<UUID> productIds = rejectDuplicateProducts && itemCount > 1 ? new HashSet<>(itemCount * 2) : null;
+        BigDecimal itemsTotal = BigDecimal.ZERO;
+        for (OrderItem orderItem : items) {
+            validateItem(orderItem, productIds);
+            itemsTotal = itemsTotal.add(orderItem.subTotal());
+        }
+        if (price.compareTo(itemsTotal) != 0) {
+            throw reject(CreateOrderRejection.TOTAL_MISMATCH, "Total price: " + price.toPlainString()
+                    + " is no equals to Order items total: " + itemsTotal.toPlainString() + "!");
+        }
+    }
+
+    private void validateItem(OrderItem orderItem, Set<UUID> productIds) {
+        if (orderItem == null || orderItem.productId() == null) {
+            throw reject(CreateOrderRejection.PRODUCT_ID, "Order item has no product id!");
+        }
+        UUID productId = orderItem.productId();
+        if (productIds != null && !productIds.add(productId)) {
+            throw reject(CreateOrderRejection.PRODUCT_ID, "Product with id: " + productId
+                    + " is ordered on more than one item!");
+        }
+        Integer quantity = orderItem.quantity();
+        if (quantity == null || quantity < 1 || quantity > maxItemQuantity) {
+            throw reject(CreateOrderRejection.ITEM_QUANTITY, "Order item quantity: " + quantity
+                    + " is no valid for product " + productId);
+        }
+        BigDecimal itemPrice = orderItem.price();
+        if (itemPrice == null || itemPrice.signum() <= 0) {
+            throw reject(CreateOrderRejection.ITEM_PRICE, "Order item price: " + itemPrice
+                    + " is no valid for product " + productId);
+        }
+        BigDecimal subTotal = orderItem.subTotal();
+        if (subTotal == null || itemPrice.multiply(BigDecimal.valueOf(quantity)).compareTo(subTotal) != 0) {
+            throw reject(CreateOrderRejection.ITEM_SUBTOTAL, "Order item subtotal: " + subTotal
+                    + " is no equals to price times quantity for product " + productId);
+        }
+    }
+
+    private OrderDomainException reject(CreateOrderRejection reason, String message) {
+        orderMetrics.recordCreateRejection(reason);
+        log.debug("Create order command rejected for {}: {}", reason, message);
+        return new OrderDomainException(message);
+    }
+}
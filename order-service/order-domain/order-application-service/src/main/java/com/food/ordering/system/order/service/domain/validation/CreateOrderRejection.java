@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.domain.validation;
+
+/**
+ * The reasons {@link CreateOrderCommandValidator} rejects a command, each counted on its own.
+ */
+public enum CreateOrderRejection {
+
+    ITEM_COUNT,
+    TOTAL_PRICE,
+    PRODUCT_ID,
+    ITEM_QUANTITY,
+    ITEM_PRICE,
+    ITEM_SUBTOTAL,
+    TOTAL_MISMATCH
+}
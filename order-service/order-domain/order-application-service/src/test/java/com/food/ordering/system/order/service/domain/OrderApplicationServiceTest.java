@@ -2,8 +2,11 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.domain.valueobject.*;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
 import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
@@ -12,8 +15,12 @@ import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,9 +28,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -40,13 +53,17 @@ public class OrderApplicationServiceTest {
     private CustomerRepository customerRepository;
     @Autowired
     private RestaurantRepository restaurantRepository;
+    @Autowired
+    private OrderTrackingRepository orderTrackingRepository;
     private CreateOrderCommand createOrderCommand;
     private CreateOrderCommand createOrderCommandWrongPirce;
     private CreateOrderCommand createOrderCommandWrongProductPrice;
     private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
     private final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
     private final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+    private final UUID PRODUCT_ID_2 = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb49");
     private final UUID ORDER_ID = UUID.fromString("15a497c1-0f4b-4eff-b9f4-c402c8c07afb");
+    private final UUID TRACKING_ID = UUID.fromString("15a497c1-0f4b-4eff-b9f4-c402c8c07afc");
     private final BigDecimal PRICE = new BigDecimal("200.00");
 
 
@@ -69,7 +86,7 @@ public class OrderApplicationServiceTest {
                                 .subTotal(new BigDecimal("50.00"))
                                 .build(),
                         OrderItem.builder()
-                                .productId(PRODUCT_ID)
+                                .productId(PRODUCT_ID_2)
                                 .quantity(3)
                                 .price(new BigDecimal("50.00"))
                                 .subTotal(new BigDecimal("150.00"))
@@ -94,7 +111,7 @@ public class OrderApplicationServiceTest {
                                 .subTotal(new BigDecimal("50.00"))
                                 .build(),
                         OrderItem.builder()
-                                .productId(PRODUCT_ID)
+                                .productId(PRODUCT_ID_2)
                                 .quantity(3)
                                 .price(new BigDecimal("50.00"))
                                 .subTotal(new BigDecimal("150.00"))
@@ -119,7 +136,7 @@ public class OrderApplicationServiceTest {
                                 .subTotal(new BigDecimal("60.00"))
                                 .build(),
                         OrderItem.builder()
-                                .productId(PRODUCT_ID)
+                                .productId(PRODUCT_ID_2)
                                 .quantity(3)
                                 .price(new BigDecimal("50.00"))
                                 .subTotal(new BigDecimal("150.00"))
@@ -134,7 +151,7 @@ public class OrderApplicationServiceTest {
                 .restaurantId(new RestaurantId(createOrderCommand.getRestaurantId()))
                 .products(List.of(
                         new Product(new ProductId(PRODUCT_ID), "product-1", new Money(new BigDecimal("50.00"))),
-                        new Product(new ProductId(PRODUCT_ID), "product-2", new Money(new BigDecimal("50.00")))
+                        new Product(new ProductId(PRODUCT_ID_2), "product-2", new Money(new BigDecimal("50.00")))
                 ))
                 .active(true)
                 .build();
@@ -143,10 +160,48 @@ public class OrderApplicationServiceTest {
         order.setId(new OrderId(ORDER_ID));
 
         when(customerRepository.findCustomerById(CUSTOMER_ID)).thenReturn(Optional.of(customer));
+        when(customerRepository.existsCustomerById(CUSTOMER_ID)).thenReturn(true);
         when(restaurantRepository.findRestaurantInformation(orderDataMapper.createOrderCommandToRestaurant(createOrderCommand)))
                 .thenReturn(Optional.of(restaurantResponse));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(customerRepository.findExistingCustomerIds(any())).thenReturn(Set.of(CUSTOMER_ID));
+        when(orderRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderTrackingRepository.save(any(OrderTracking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderTrackingRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderTrackingRepository.findByTrackingId(new TrackingId(TRACKING_ID))).thenReturn(Optional.of(
+                OrderTracking.builder()
+                        .trackingId(TRACKING_ID)
+                        .orderId(ORDER_ID)
+                        .orderStatus(OrderStatus.CANCELLED)
+                        .failureMessages(List.of("Payment failed"))
+                        .build()));
+
+    }
+
+    @Test
+    public void testCreateOrdersReportsFailuresPerCommand() {
+        List<CreateOrderResult> results = orderApplicationService.createOrders(
+                List.of(createOrderCommand, createOrderCommandWrongPirce, createOrderCommand));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccessful());
+        assertEquals(OrderStatus.PENDING, results.get(0).getCreateOrderResponse().getOrderStatus());
+        assertFalse(results.get(1).isSuccessful());
+        assertEquals("Total price: 250.00 is no equals to Order items total: 200.00!",
+                results.get(1).getFailureMessage());
+        assertTrue(results.get(2).isSuccessful());
+    }
+
+    @Test
+    public void testTrackOrder() {
+        TrackOrderResponse trackOrderResponse = orderApplicationService.trackOrder(TrackOrderQuery.builder()
+                .orderTrackingId(TRACKING_ID)
+                .build());
 
+        assertEquals(TRACKING_ID, trackOrderResponse.getOrderTrackingId());
+        assertEquals(OrderStatus.CANCELLED, trackOrderResponse.getOrderStatus());
+        assertEquals(List.of("Payment failed"), trackOrderResponse.getFailureMessages());
+        verify(orderRepository, never()).findByTrackingId(any());
     }
 
 }
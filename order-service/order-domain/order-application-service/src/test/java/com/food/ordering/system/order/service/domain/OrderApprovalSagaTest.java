@@ -0,0 +1,160 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.config.OrderTransitionConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderVersionConflictException;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderEventType;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingHelper;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OrderApprovalSagaTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderTrackingRepository orderTrackingRepository = mock(OrderTrackingRepository.class);
+    private final OrderOutboxRepository orderOutboxRepository = mock(OrderOutboxRepository.class);
+    private final OrderApprovalSaga orderApprovalSaga = new OrderApprovalSaga(new OrderDomainServiceImpl(),
+            new OrderTransitionHelper(orderRepository, new OrderTransitionConfigData()),
+            new OrderTrackingHelper(orderTrackingRepository), new OrderOutboxHelper(orderOutboxRepository),
+            new OrderMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    public void testApproveAndRejectOrders() {
+        when(orderTrackingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderOutboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.saveIfUnchanged(any())).thenReturn(true);
+        Order approved = paidOrder();
+        Order rejected = paidOrder();
+        when(orderRepository.findById(approved.getId())).thenReturn(Optional.of(approved));
+        when(orderRepository.findById(rejected.getId())).thenReturn(Optional.of(rejected));
+
+        orderApprovalSaga.approveOrder(approvalResponse(approved, OrderApprovalStatus.APPROVED, null));
+        orderApprovalSaga.rejectOrder(approvalResponse(rejected, OrderApprovalStatus.REJECTED,
+                List.of("Product is not available")));
+        orderApprovalSaga.approveOrder(approvalResponse(approved, OrderApprovalStatus.APPROVED, null));
+
+        assertEquals(OrderStatus.APPROVED, approved.getOrderStatus());
+        assertEquals(OrderStatus.CANELLING, rejected.getOrderStatus());
+        assertEquals(List.of("Product is not available"), rejected.getFailureMessagges());
+        verify(orderRepository, times(1)).saveIfUnchanged(approved);
+        verify(orderRepository, times(1)).saveIfUnchanged(rejected);
+        verify(orderTrackingRepository, times(2)).save(any(OrderTracking.class));
+
+        ArgumentCaptor<OrderOutboxMessage> outboxMessage = ArgumentCaptor.forClass(OrderOutboxMessage.class);
+        verify(orderOutboxRepository, times(1)).save(outboxMessage.capture());
+        assertEquals(OrderEventType.ORDER_CANCELLED, outboxMessage.getValue().getEventType());
+        assertEquals(rejected.getId().getValue(), outboxMessage.getValue().getOrderId());
+    }
+
+    @Test
+    public void testUnknownOrderIsSkipped() {
+        when(orderRepository.findById(any())).thenReturn(Optional.empty());
+
+        orderApprovalSaga.approveOrder(RestaurantApprovalResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .orderApprovalStatus(OrderApprovalStatus.APPROVED)
+                .build());
+
+        verify(orderRepository, never()).saveIfUnchanged(any());
+    }
+
+    @Test
+    public void testConcurrentChangeIsRetriedOnTheReloadedOrder() {
+        Order stale = paidOrder();
+        Order reloaded = copy(stale, OrderStatus.CANELLING, 1);
+        when(orderRepository.findById(stale.getId())).thenReturn(Optional.of(stale))
+                .thenReturn(Optional.of(reloaded));
+        when(orderRepository.saveIfUnchanged(same(stale))).thenReturn(false);
+
+        orderApprovalSaga.approveOrder(approvalResponse(stale, OrderApprovalStatus.APPROVED, null));
+
+        assertEquals(OrderStatus.CANELLING, reloaded.getOrderStatus());
+        verify(orderRepository, times(2)).findById(stale.getId());
+        verify(orderRepository, times(1)).saveIfUnchanged(any());
+        verify(orderTrackingRepository, never()).save(any());
+    }
+
+    @Test
+    public void testVersionConflictIsRaisedAfterTheLastAttempt() {
+        Order order = paidOrder();
+        when(orderRepository.findById(order.getId())).thenAnswer(invocation -> Optional.of(copy(order,
+                OrderStatus.PAID, 0)));
+        when(orderRepository.saveIfUnchanged(any())).thenReturn(false);
+
+        assertThrows(OrderVersionConflictException.class, () -> orderApprovalSaga.approveOrder(
+                approvalResponse(order, OrderApprovalStatus.APPROVED, null)));
+
+        verify(orderRepository, times(new OrderTransitionConfigData().getMaxAttempts())).findById(order.getId());
+        verify(orderTrackingRepository, never()).save(any());
+    }
+
+    private RestaurantApprovalResponse approvalResponse(Order order, OrderApprovalStatus orderApprovalStatus,
+                                                        List<String> failureMessages) {
+        return RestaurantApprovalResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(order.getId().getValue().toString())
+                .restaurantId(order.getRestaurantId().getValue().toString())
+                .orderApprovalStatus(orderApprovalStatus)
+                .failureMessages(failureMessages)
+                .build();
+    }
+
+    private Order copy(Order order, OrderStatus orderStatus, long version) {
+        return Order.Builder.builder()
+                .orderId(order.getId())
+                .customerId(order.getCustomerId())
+                .restaurantId(order.getRestaurantId())
+                .trackingId(order.getTrackingId())
+                .price(order.getPrice())
+                .items(order.getItems())
+                .orderStatus(orderStatus)
+                .version(version)
+                .build();
+    }
+
+    private Order paidOrder() {
+        return Order.Builder.builder()
+                .orderId(new OrderId(UUID.randomUUID()))
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .trackingId(new TrackingId(UUID.randomUUID()))
+                .price(new Money(new BigDecimal("50.00")))
+                .items(new ArrayList<>())
+                .orderStatus(OrderStatus.PAID)
+                .build();
+    }
+}
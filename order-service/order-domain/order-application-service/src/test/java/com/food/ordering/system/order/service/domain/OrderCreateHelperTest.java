@@ -0,0 +1,201 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingHelper;
+import com.food.ordering.system.order.service.domain.validation.CreateOrderCommandValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class OrderCreateHelperTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private static final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final RestaurantRepository restaurantRepository = mock(RestaurantRepository.class);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final ExecutorService orderLookupExecutor = Executors.newCachedThreadPool();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderCreateConfigData orderCreateConfigData = new OrderCreateConfigData();
+    private final OrderMetrics orderMetrics = new OrderMetrics(meterRegistry);
+    private final OrderCreateHelper orderCreateHelper = new OrderCreateHelper(new OrderDomainServiceImpl(),
+            orderRepository, customerRepository, restaurantRepository, new OrderDataMapper(),
+            new OrderOutboxHelper(mock(OrderOutboxRepository.class)),
+            new OrderTrackingHelper(mock(OrderTrackingRepository.class)), orderLookupExecutor,
+            orderCreateConfigData, orderMetrics, new CreateOrderCommandValidator(orderCreateConfigData, orderMetrics));
+
+    @AfterEach
+    public void tearDown() {
+        orderLookupExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testCustomerAndRestaurantAreLookedUpConcurrently() {
+        CyclicBarrier bothLookupsStarted = new CyclicBarrier(2);
+        when(customerRepository.existsCustomerById(CUSTOMER_ID)).thenAnswer(invocation -> {
+            bothLookupsStarted.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        when(restaurantRepository.findRestaurantInformation(any())).thenAnswer(invocation -> {
+            bothLookupsStarted.await(5, TimeUnit.SECONDS);
+            return Optional.of(restaurant());
+        });
+
+        OrderCreatedEvent orderCreatedEvent = orderCreateHelper.initiateOrder(createOrderCommand());
+
+        assertEquals(OrderStatus.PENDING, orderCreatedEvent.getOrder().getOrderStatus());
+        verify(orderRepository, never()).save(any());
+        for (String stage : List.of("customer_check", "restaurant_check", "mapping", "validation")) {
+            assertEquals(1, meterRegistry.get("order.create.stage").tag("stage", stage).timer().count());
+        }
+        assertEquals(0, meterRegistry.get("order.create.stage").tag("stage", "save").timer().count());
+    }
+
+    @Test
+    public void testMissingCustomerCancelsTheRestaurantLookup() throws Exception {
+        CountDownLatch restaurantLookupStarted = new CountDownLatch(1);
+        CountDownLatch restaurantLookupInterrupted = new CountDownLatch(1);
+        when(restaurantRepository.findRestaurantInformation(any())).thenAnswer(invocation -> {
+            restaurantLookupStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                restaurantLookupInterrupted.countDown();
+            }
+            return Optional.of(restaurant());
+        });
+        when(customerRepository.existsCustomerById(CUSTOMER_ID)).thenAnswer(invocation -> {
+            restaurantLookupStarted.await(5, TimeUnit.SECONDS);
+            return false;
+        });
+
+        OrderDomainException exception = assertThrows(OrderDomainException.class,
+                () -> orderCreateHelper.initiateOrder(createOrderCommand()));
+
+        assertEquals("Could not find customer with customer id: " + CUSTOMER_ID, exception.getMessage());
+        assertTrue(restaurantLookupInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMissingRestaurantIsRejected() {
+        when(customerRepository.existsCustomerById(CUSTOMER_ID)).thenReturn(true);
+        when(restaurantRepository.findRestaurantInformation(any())).thenReturn(Optional.empty());
+
+        OrderDomainException exception = assertThrows(OrderDomainException.class,
+                () -> orderCreateHelper.initiateOrder(createOrderCommand()));
+
+        assertEquals("Could not find restaurant with restaurant id: " + RESTAURANT_ID, exception.getMessage());
+    }
+
+    @Test
+    public void testOrderAndAddressIdsAreTimeOrderedAndTrackingIdIsRandom() {
+        when(customerRepository.existsCustomerById(CUSTOMER_ID)).thenReturn(true);
+        when(restaurantRepository.findRestaurantInformation(any())).thenReturn(Optional.of(restaurant()));
+        long before = System.currentTimeMillis();
+
+        OrderCreatedEvent orderCreatedEvent = orderCreateHelper.initiateOrder(createOrderCommand());
+
+        UUID orderId = orderCreatedEvent.getOrder().getId().getValue();
+        assertEquals(7, orderId.version());
+        assertEquals(2, orderId.variant());
+        long orderIdMillis = orderId.getMostSignificantBits() >>> 16;
+        assertTrue(orderIdMillis >= before && orderIdMillis <= System.currentTimeMillis());
+        assertEquals(7, orderCreatedEvent.getOrder().getDeliveryAddres().getId().version());
+        assertEquals(4, orderCreatedEvent.getOrder().getTrackingId().getValue().version());
+    }
+
+    @Test
+    public void testOutOfBoundsCommandIsRejectedBeforeLookups() {
+        CreateOrderCommand createOrderCommand = createOrderCommand();
+        CreateOrderCommand tooExpensive = CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(createOrderCommand.getRestaurantId())
+                .price(new BigDecimal("100000.01"))
+                .items(createOrderCommand.getItems())
+                .address(createOrderCommand.getAddress())
+                .build();
+        CreateOrderCommand withoutItems = CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(createOrderCommand.getRestaurantId())
+                .price(createOrderCommand.getPrice())
+                .items(List.of())
+                .address(createOrderCommand.getAddress())
+                .build();
+
+        assertEquals("Total price must be greater than zero and at most 100000.00!", assertThrows(
+                OrderDomainException.class, () -> orderCreateHelper.initiateOrder(tooExpensive)).getMessage());
+        assertEquals("Order must have between 1 and 1000 items!", assertThrows(
+                OrderDomainException.class, () -> orderCreateHelper.initiateOrder(withoutItems)).getMessage());
+        verifyNoInteractions(customerRepository, restaurantRepository);
+    }
+
+    private Restaurant restaurant() {
+        return Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(RESTAURANT_ID))
+                .products(List.of(new Product(new ProductId(PRODUCT_ID), "product-1",
+                        new Money(new BigDecimal("50.00")))))
+                .active(true)
+                .build();
+    }
+
+    private CreateOrderCommand createOrderCommand() {
+        return CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(RESTAURANT_ID)
+                .price(new BigDecimal("100.00"))
+                .items(List.of(OrderItem.builder()
+                        .productId(PRODUCT_ID)
+                        .quantity(2)
+                        .price(new BigDecimal("50.00"))
+                        .subTotal(new BigDecimal("100.00"))
+                        .build()))
+                .address(OrderAddress.builder()
+                        .street("street_1")
+                        .postalCode("1000AB")
+                        .city("Paris")
+                        .build())
+                .build();
+    }
+}
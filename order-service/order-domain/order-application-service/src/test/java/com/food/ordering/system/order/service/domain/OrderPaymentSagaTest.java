@@ -0,0 +1,184 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.clock.DomainClock;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.config.OrderTransitionConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.tracking.OrderTrackingHelper;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OrderPaymentSagaTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderTrackingRepository orderTrackingRepository = mock(OrderTrackingRepository.class);
+    private final OrderOutboxRepository orderOutboxRepository = mock(OrderOutboxRepository.class);
+    private final Instant now = Instant.parse("2024-03-01T12:00:00Z");
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderPaymentSaga orderPaymentSaga = new OrderPaymentSaga(
+            new OrderDomainServiceImpl(DomainClock.fixed(now)),
+            orderRepository, new OrderTransitionHelper(orderRepository, new OrderTransitionConfigData()),
+            new OrderTrackingHelper(orderTrackingRepository), new OrderOutboxHelper(orderOutboxRepository),
+            new OrderMetrics(meterRegistry));
+
+    @BeforeEach
+    public void init() {
+        when(orderTrackingRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPaymentResponsesAreAppliedAndSavedOncePerBatch() {
+        Order paid = pendingOrder();
+        Order failed = pendingOrder();
+        when(orderRepository.findByIds(any())).thenReturn(List.of(paid, failed));
+
+        orderPaymentSaga.processPaymentResponses(List.of(
+                paymentResponse(paid, PaymentStatus.COMPLETED, null),
+                paymentResponse(failed, PaymentStatus.FAILED, List.of("Insufficient credit")),
+                paymentResponse(paid, PaymentStatus.COMPLETED, null),
+                paymentResponse(new OrderId(UUID.randomUUID()), PaymentStatus.COMPLETED)));
+
+        assertEquals(OrderStatus.PAID, paid.getOrderStatus());
+        assertEquals(OrderStatus.CANCELLED, failed.getOrderStatus());
+        assertEquals(List.of("Insufficient credit"), failed.getFailureMessagges());
+
+        ArgumentCaptor<List<Order>> savedOrders = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository, times(1)).findByIds(any());
+        verify(orderRepository, times(1)).saveAllIfUnchanged(savedOrders.capture());
+        assertEquals(List.of(paid, failed), savedOrders.getValue());
+        verify(orderTrackingRepository, times(1)).saveAll(anyList());
+
+        ArgumentCaptor<List<OrderOutboxMessage>> outboxMessages = ArgumentCaptor.forClass(List.class);
+        verify(orderOutboxRepository, times(1)).saveAll(outboxMessages.capture());
+        assertEquals(1, outboxMessages.getValue().size());
+        assertEquals(paid.getId().getValue(), outboxMessages.getValue().get(0).getOrderId());
+        assertEquals(now, outboxMessages.getValue().get(0).getCreatedAt());
+        assertEquals(now, outboxMessages.getValue().get(0).getPayload().createdAt());
+
+        assertEquals(2, transitions("pay", OrderStatus.PAID));
+        assertEquals(1, transitions("cancel", OrderStatus.CANCELLED));
+        assertEquals(1, meterRegistry.get("order.saga").tag("saga", "payment").timer().count());
+        assertEquals(4, meterRegistry.get("order.saga.payment.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOrderChangedConcurrentlyIsReappliedAlone() {
+        Order paid = pendingOrder();
+        Order stale = pendingOrder();
+        Order reloaded = Order.Builder.builder()
+                .orderId(stale.getId())
+                .customerId(stale.getCustomerId())
+                .restaurantId(stale.getRestaurantId())
+                .trackingId(stale.getTrackingId())
+                .price(stale.getPrice())
+                .items(new ArrayList<>())
+                .orderStatus(OrderStatus.PENDING)
+                .version(1)
+                .build();
+        when(orderRepository.findByIds(any())).thenReturn(List.of(paid, stale));
+        when(orderRepository.saveAllIfUnchanged(any())).thenReturn(List.of(stale));
+        when(orderRepository.findById(stale.getId())).thenReturn(Optional.of(reloaded));
+        when(orderRepository.saveIfUnchanged(same(reloaded))).thenReturn(true);
+
+        orderPaymentSaga.processPaymentResponses(List.of(
+                paymentResponse(paid, PaymentStatus.COMPLETED, null),
+                paymentResponse(stale, PaymentStatus.COMPLETED, null)));
+
+        assertEquals(OrderStatus.PAID, reloaded.getOrderStatus());
+        ArgumentCaptor<List<OrderOutboxMessage>> outboxMessages = ArgumentCaptor.forClass(List.class);
+        verify(orderOutboxRepository, times(1)).saveAll(outboxMessages.capture());
+        assertEquals(List.of(paid.getId().getValue(), reloaded.getId().getValue()),
+                outboxMessages.getValue().stream().map(OrderOutboxMessage::getOrderId).toList());
+        verify(orderTrackingRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    public void testFailedTrackingBatchIsRejected() {
+        Order paid = pendingOrder();
+        when(orderRepository.findByIds(any())).thenReturn(List.of(paid));
+        when(orderTrackingRepository.saveAll(any())).thenReturn(List.of());
+
+        OrderDomainException exception = assertThrows(OrderDomainException.class, () ->
+                orderPaymentSaga.processPaymentResponses(List.of(
+                        paymentResponse(paid, PaymentStatus.COMPLETED, null))));
+
+        assertEquals("Could not save order trackings!", exception.getMessage());
+    }
+
+    private double transitions(String transition, OrderStatus orderStatus) {
+        return meterRegistry.get("order.saga.transitions")
+                .tag("transition", transition)
+                .tag("status", orderStatus.name())
+                .counter()
+                .count();
+    }
+
+    private PaymentResponse paymentResponse(Order order, PaymentStatus paymentStatus, List<String> failureMessages) {
+        return PaymentResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(order.getId().getValue().toString())
+                .paymentId(UUID.randomUUID().toString())
+                .customerId(order.getCustomerId().getValue().toString())
+                .price(order.getPrice().getAmount())
+                .paymentStatus(paymentStatus)
+                .failureMessages(failureMessages)
+                .build();
+    }
+
+    private PaymentResponse paymentResponse(OrderId orderId, PaymentStatus paymentStatus) {
+        return PaymentResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .orderId(orderId.getValue().toString())
+                .paymentStatus(paymentStatus)
+                .build();
+    }
+
+    private Order pendingOrder() {
+        return Order.Builder.builder()
+                .orderId(new OrderId(UUID.randomUUID()))
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .trackingId(new TrackingId(UUID.randomUUID()))
+                .price(new Money(new BigDecimal("50.00")))
+                .items(new ArrayList<>())
+                .orderStatus(OrderStatus.PENDING)
+                .build();
+    }
+}
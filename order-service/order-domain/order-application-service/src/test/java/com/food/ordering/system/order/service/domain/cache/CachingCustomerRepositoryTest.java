@@ -0,0 +1,174 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.order.service.domain.config.CustomerCacheConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingCustomerRepositoryTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private static final UUID NEW_CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb42");
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final CustomerCacheConfigData customerCacheConfigData = new CustomerCacheConfigData();
+
+    @BeforeEach
+    public void init() {
+        customerCacheConfigData.setNegativeFilterEnabled(true);
+        customerCacheConfigData.setNegativeFilterExpectedCustomers(1_000);
+        doAnswer(invocation -> {
+            invocation.<Consumer<UUID>>getArgument(0).accept(CUSTOMER_ID);
+            return null;
+        }).when(customerRepository).forEachCustomerId(any());
+    }
+
+    @Test
+    public void testKnownCustomerIsAnsweredFromTheCache() {
+        CachingCustomerRepository cachingCustomerRepository = new CachingCustomerRepository(customerRepository,
+                customerCacheConfigData);
+        when(customerRepository.existsCustomerById(CUSTOMER_ID)).thenReturn(true);
+
+        assertTrue(cachingCustomerRepository.existsCustomerById(CUSTOMER_ID));
+        assertTrue(cachingCustomerRepository.existsCustomerById(CUSTOMER_ID));
+        assertEquals(Set.of(CUSTOMER_ID),
+                cachingCustomerRepository.findExistingCustomerIds(List.of(CUSTOMER_ID)));
+
+        verify(customerRepository, times(1)).existsCustomerById(CUSTOMER_ID);
+        verify(customerRepository, never()).findExistingCustomerIds(any());
+        assertEquals(2, cachingCustomerRepository.stats().hitCount());
+    }
+
+    @Test
+    public void testUnseededFilterDoesNotRejectCustomers() {
+        CachingCustomerRepository cachingCustomerRepository = new CachingCustomerRepository(customerRepository,
+                customerCacheConfigData);
+        when(customerRepository.existsCustomerById(NEW_CUSTOMER_ID)).thenReturn(true);
+
+        assertTrue(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+        assertEquals(0, cachingCustomerRepository.unknownCustomerHits());
+    }
+
+    @Test
+    public void testUnknownCustomerMissingFromTheFilterIsLookedUpOnce() {
+        CachingCustomerRepository cachingCustomerRepository = new CachingCustomerRepository(customerRepository,
+                customerCacheConfigData);
+        cachingCustomerRepository.seedNegativeFilter();
+
+        assertFalse(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+        assertFalse(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+        assertTrue(cachingCustomerRepository.findExistingCustomerIds(List.of(NEW_CUSTOMER_ID)).isEmpty());
+
+        verify(customerRepository, times(1)).existsCustomerById(NEW_CUSTOMER_ID);
+        verify(customerRepository, never()).findExistingCustomerIds(any());
+        assertEquals(2, cachingCustomerRepository.unknownCustomerHits());
+    }
+
+    @Test
+    public void testIdsTheFilterMightContainAreNotCachedAsUnknown() {
+        CachingCustomerRepository cachingCustomerRepository = new CachingCustomerRepository(customerRepository,
+                customerCacheConfigData);
+        cachingCustomerRepository.seedNegativeFilter();
+
+        assertFalse(cachingCustomerRepository.existsCustomerById(CUSTOMER_ID));
+        assertFalse(cachingCustomerRepository.existsCustomerById(CUSTOMER_ID));
+
+        verify(customerRepository, times(2)).existsCustomerById(CUSTOMER_ID);
+        assertEquals(0, cachingCustomerRepository.unknownCustomerHits());
+    }
+
+    @Test
+    public void testCustomerCreatedAfterSeedingIsFoundDuringJunkTraffic() {
+        CachingCustomerRepository cachingCustomerRepository = new CachingCustomerRepository(customerRepository,
+                customerCacheConfigData);
+        cachingCustomerRepository.seedNegativeFilter();
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(cachingCustomerRepository.existsCustomerById(UUID.randomUUID()));
+        }
+        when(customerRepository.existsCustomerById(NEW_CUSTOMER_ID)).thenReturn(true);
+
+        assertTrue(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+        assertTrue(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+
+        verify(customerRepository, times(1)).existsCustomerById(NEW_CUSTOMER_ID);
+    }
+
+    @Test
+    public void testCreatedCustomerIsRemovedFromTheNegativeCache() {
+        CachingCustomerRepository cachingCustomerRepository = new CachingCustomerRepository(customerRepository,
+                customerCacheConfigData);
+        cachingCustomerRepository.seedNegativeFilter();
+        assertFalse(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+
+        cachingCustomerRepository.customerCreated(NEW_CUSTOMER_ID);
+
+        assertTrue(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+    }
+
+    @Test
+    public void testRefreshPicksUpCustomersCreatedAfterSeeding() {
+        CachingCustomerRepository cachingCustomerRepository = new CachingCustomerRepository(customerRepository,
+                customerCacheConfigData);
+        cachingCustomerRepository.seedNegativeFilter();
+        assertFalse(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+
+        doAnswer(invocation -> {
+            invocation.<Consumer<UUID>>getArgument(0).accept(CUSTOMER_ID);
+            invocation.<Consumer<UUID>>getArgument(0).accept(NEW_CUSTOMER_ID);
+            return null;
+        }).when(customerRepository).forEachCustomerId(any());
+        when(customerRepository.existsCustomerById(NEW_CUSTOMER_ID)).thenReturn(true);
+        cachingCustomerRepository.refreshNegativeFilter();
+
+        assertTrue(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+    }
+
+    @Test
+    public void testCustomerCreatedDuringSeedingIsKept() {
+        customerCacheConfigData.setExpireAfterWrite(Duration.ZERO);
+        CachingCustomerRepository cachingCustomerRepository = new CachingCustomerRepository(customerRepository,
+                customerCacheConfigData);
+        doAnswer(invocation -> {
+            cachingCustomerRepository.customerCreated(NEW_CUSTOMER_ID);
+            invocation.<Consumer<UUID>>getArgument(0).accept(CUSTOMER_ID);
+            return null;
+        }).when(customerRepository).forEachCustomerId(any());
+        when(customerRepository.existsCustomerById(NEW_CUSTOMER_ID)).thenReturn(true);
+        cachingCustomerRepository.seedNegativeFilter();
+
+        assertTrue(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+        verify(customerRepository, times(1)).existsCustomerById(NEW_CUSTOMER_ID);
+        assertEquals(0, cachingCustomerRepository.unknownCustomerHits());
+    }
+
+    @Test
+    public void testRepositoryWithoutIdScanLeavesTheFilterOff() {
+        doThrow(new UnsupportedOperationException("no scan")).when(customerRepository).forEachCustomerId(any());
+        CachingCustomerRepository cachingCustomerRepository = new CachingCustomerRepository(customerRepository,
+                customerCacheConfigData);
+        when(customerRepository.existsCustomerById(NEW_CUSTOMER_ID)).thenReturn(true);
+
+        cachingCustomerRepository.seedNegativeFilter();
+
+        assertTrue(cachingCustomerRepository.existsCustomerById(NEW_CUSTOMER_ID));
+        assertEquals(0, cachingCustomerRepository.unknownCustomerHits());
+    }
+}
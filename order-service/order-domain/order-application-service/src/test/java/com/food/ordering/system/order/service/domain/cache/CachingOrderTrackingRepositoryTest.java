@@ -0,0 +1,150 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderTrackingCacheConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.tracking.model.OrderTracking;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingOrderTrackingRepositoryTest {
+
+    private static final UUID TRACKING_ID = UUID.fromString("15a497c1-0f4b-4eff-b9f4-c402c8c07afc");
+    private static final UUID ORDER_ID = UUID.fromString("15a497c1-0f4b-4eff-b9f4-c402c8c07afb");
+
+    private final OrderTrackingRepository orderTrackingRepository = mock(OrderTrackingRepository.class);
+    private final OrderTrackingCacheConfigData orderTrackingCacheConfigData = new OrderTrackingCacheConfigData();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final CachingOrderTrackingRepository cachingOrderTrackingRepository = new CachingOrderTrackingRepository(
+            orderTrackingRepository, orderTrackingCacheConfigData, meterRegistry, nanoTime::get);
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testRolledBackSaveDoesNotFillTheCache() {
+        OrderTracking paid = orderTracking(OrderStatus.PAID);
+        when(orderTrackingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderTrackingRepository.findByTrackingId(any()))
+                .thenReturn(Optional.of(orderTracking(OrderStatus.PENDING)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        cachingOrderTrackingRepository.save(paid);
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(0, cachingOrderTrackingRepository.estimatedSize());
+        assertEquals(OrderStatus.PENDING, find().getOrderStatus());
+        verify(orderTrackingRepository, times(1)).findByTrackingId(any());
+    }
+
+    @Test
+    public void testCommittedSaveFillsTheCache() {
+        when(orderTrackingRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        cachingOrderTrackingRepository.saveAll(List.of(orderTracking(OrderStatus.PAID)));
+        assertEquals(0, cachingOrderTrackingRepository.estimatedSize());
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(OrderStatus.PAID, find().getOrderStatus());
+        verify(orderTrackingRepository, never()).findByTrackingId(any());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "order.trackings").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    public void testInProgressOrderExpiresAfterExpireAfterWrite() {
+        when(orderTrackingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        cachingOrderTrackingRepository.save(orderTracking(OrderStatus.PAID));
+
+        advance(orderTrackingCacheConfigData.getExpireAfterWrite().minusSeconds(1));
+        assertEquals(OrderStatus.PAID, find().getOrderStatus());
+        verify(orderTrackingRepository, never()).findByTrackingId(any());
+
+        advance(Duration.ofSeconds(2));
+        when(orderTrackingRepository.findByTrackingId(any()))
+                .thenReturn(Optional.of(orderTracking(OrderStatus.APPROVED)));
+        assertEquals(OrderStatus.APPROVED, find().getOrderStatus());
+        verify(orderTrackingRepository, times(1)).findByTrackingId(any());
+    }
+
+    @Test
+    public void testCompletedOrderIsKeptForCompletedExpireAfterWrite() {
+        when(orderTrackingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        cachingOrderTrackingRepository.save(orderTracking(OrderStatus.PAID));
+        cachingOrderTrackingRepository.save(orderTracking(OrderStatus.APPROVED));
+
+        advance(orderTrackingCacheConfigData.getCompletedExpireAfterWrite().minusSeconds(1));
+        assertEquals(OrderStatus.APPROVED, find().getOrderStatus());
+        verify(orderTrackingRepository, never()).findByTrackingId(any());
+
+        advance(Duration.ofSeconds(2));
+        when(orderTrackingRepository.findByTrackingId(any()))
+                .thenReturn(Optional.of(orderTracking(OrderStatus.APPROVED)));
+        find();
+        verify(orderTrackingRepository, times(1)).findByTrackingId(any());
+    }
+
+    @Test
+    public void testOlderStatusCommittedLastDoesNotReplaceNewerOne() {
+        when(orderTrackingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        cachingOrderTrackingRepository.save(orderTracking(OrderStatus.PAID));
+        List<TransactionSynchronization> paidCommit = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        cachingOrderTrackingRepository.save(orderTracking(OrderStatus.APPROVED));
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCommit(paidCommit);
+
+        assertEquals(OrderStatus.APPROVED, find().getOrderStatus());
+        verify(orderTrackingRepository, never()).findByTrackingId(any());
+    }
+
+    private OrderTracking find() {
+        return cachingOrderTrackingRepository.findByTrackingId(new TrackingId(TRACKING_ID)).orElseThrow();
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    private OrderTracking orderTracking(OrderStatus orderStatus) {
+        return OrderTracking.builder()
+                .trackingId(TRACKING_ID)
+                .orderId(ORDER_ID)
+                .orderStatus(orderStatus)
+                .failureMessages(List.of())
+                .build();
+    }
+}
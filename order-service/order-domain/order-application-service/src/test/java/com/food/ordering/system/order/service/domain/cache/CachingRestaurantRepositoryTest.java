@@ -0,0 +1,181 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.config.RestaurantCacheConfigData;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingRestaurantRepositoryTest {
+
+    private static final RestaurantId RESTAURANT_ID =
+            new RestaurantId(UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45"));
+    private static final ProductId PRODUCT_ID_1 =
+            new ProductId(UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb47"));
+    private static final ProductId PRODUCT_ID_2 =
+            new ProductId(UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48"));
+
+    private final RestaurantRepository restaurantRepository = mock(RestaurantRepository.class);
+    private final RestaurantCacheConfigData restaurantCacheConfigData = new RestaurantCacheConfigData();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        CachingRestaurantRepository cachingRestaurantRepository = cachingRestaurantRepository();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        when(restaurantRepository.findRestaurantMenu(RESTAURANT_ID)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return Optional.of(menu(1L, PRODUCT_ID_1));
+        });
+
+        Future<Optional<Restaurant>> first =
+                executor.submit(() -> cachingRestaurantRepository.findRestaurantMenu(RESTAURANT_ID));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        Future<Optional<Restaurant>> second =
+                executor.submit(() -> cachingRestaurantRepository.findRestaurantMenu(RESTAURANT_ID));
+        Thread.sleep(50);
+        releaseLoad.countDown();
+
+        assertTrue(first.get(5, TimeUnit.SECONDS).isPresent());
+        assertTrue(second.get(5, TimeUnit.SECONDS).isPresent());
+        verify(restaurantRepository, times(1)).findRestaurantMenu(RESTAURANT_ID);
+    }
+
+    @Test
+    public void testNewerMenuVersionInvalidatesTheCachedMenu() {
+        CachingRestaurantRepository cachingRestaurantRepository = cachingRestaurantRepository();
+        when(restaurantRepository.findRestaurantMenu(RESTAURANT_ID))
+                .thenReturn(Optional.of(menu(1L, PRODUCT_ID_1)))
+                .thenReturn(Optional.of(menu(2L, PRODUCT_ID_1, PRODUCT_ID_2)));
+
+        cachingRestaurantRepository.findRestaurantMenu(RESTAURANT_ID);
+        cachingRestaurantRepository.menuVersionChanged(RESTAURANT_ID, 1L);
+        assertEquals(1L, cachingRestaurantRepository.findRestaurantMenu(RESTAURANT_ID).orElseThrow().getMenuVersion());
+
+        cachingRestaurantRepository.menuVersionChanged(RESTAURANT_ID, 2L);
+        assertEquals(2L, cachingRestaurantRepository.findRestaurantMenu(RESTAURANT_ID).orElseThrow().getMenuVersion());
+        verify(restaurantRepository, times(2)).findRestaurantMenu(RESTAURANT_ID);
+    }
+
+    @Test
+    public void testRefreshMenuVersionsDropsChangedAndRemovedRestaurants() {
+        CachingRestaurantRepository cachingRestaurantRepository = cachingRestaurantRepository();
+        when(restaurantRepository.findRestaurantMenu(RESTAURANT_ID))
+                .thenReturn(Optional.of(menu(1L, PRODUCT_ID_1)))
+                .thenReturn(Optional.of(menu(2L, PRODUCT_ID_1)));
+        when(restaurantRepository.findMenuVersions(any()))
+                .thenReturn(Map.of(RESTAURANT_ID, 1L))
+                .thenReturn(Map.of(RESTAURANT_ID, 2L))
+                .thenReturn(Map.of());
+
+        cachingRestaurantRepository.findRestaurantMenu(RESTAURANT_ID);
+        cachingRestaurantRepository.refreshMenuVersions();
+        assertEquals(1, cachingRestaurantRepository.estimatedSize());
+
+        cachingRestaurantRepository.refreshMenuVersions();
+        assertEquals(2L, cachingRestaurantRepository.findRestaurantMenu(RESTAURANT_ID).orElseThrow().getMenuVersion());
+
+        cachingRestaurantRepository.refreshMenuVersions();
+        assertEquals(0, cachingRestaurantRepository.estimatedSize());
+    }
+
+    @Test
+    public void testMissingProductReloadsTheMenuOncePerInterval() {
+        restaurantCacheConfigData.setMinimumReloadInterval(Duration.ZERO);
+        CachingRestaurantRepository cachingRestaurantRepository = cachingRestaurantRepository();
+        when(restaurantRepository.findRestaurantMenu(RESTAURANT_ID))
+                .thenReturn(Optional.of(menu(1L, PRODUCT_ID_1)))
+                .thenReturn(Optional.of(menu(1L, PRODUCT_ID_1, PRODUCT_ID_2)));
+
+        Restaurant restaurant =
+                cachingRestaurantRepository.findRestaurantInformation(order(PRODUCT_ID_2)).orElseThrow();
+
+        assertNotNull(restaurant.findProduct(PRODUCT_ID_2));
+        verify(restaurantRepository, times(2)).findRestaurantMenu(RESTAURANT_ID);
+    }
+
+    @Test
+    public void testMissingProductDoesNotReloadWithinTheInterval() {
+        restaurantCacheConfigData.setMinimumReloadInterval(Duration.ofMinutes(1));
+        CachingRestaurantRepository cachingRestaurantRepository = cachingRestaurantRepository();
+        when(restaurantRepository.findRestaurantMenu(RESTAURANT_ID)).thenReturn(Optional.of(menu(1L, PRODUCT_ID_1)));
+
+        Restaurant restaurant =
+                cachingRestaurantRepository.findRestaurantInformation(order(PRODUCT_ID_2)).orElseThrow();
+
+        assertNull(restaurant.findProduct(PRODUCT_ID_2));
+        verify(restaurantRepository, times(1)).findRestaurantMenu(RESTAURANT_ID);
+    }
+
+    @Test
+    public void testMissingRestaurantIsNotCached() {
+        CachingRestaurantRepository cachingRestaurantRepository = cachingRestaurantRepository();
+        when(restaurantRepository.findRestaurantMenu(RESTAURANT_ID))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(menu(1L, PRODUCT_ID_1)));
+
+        assertTrue(cachingRestaurantRepository.findRestaurantMenu(RESTAURANT_ID).isEmpty());
+        assertEquals(0, cachingRestaurantRepository.estimatedSize());
+        assertTrue(cachingRestaurantRepository.findRestaurantMenu(RESTAURANT_ID).isPresent());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "restaurant.menus").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    private CachingRestaurantRepository cachingRestaurantRepository() {
+        return new CachingRestaurantRepository(restaurantRepository, restaurantCacheConfigData, meterRegistry);
+    }
+
+    private Restaurant order(ProductId productId) {
+        return Restaurant.Builder.builder()
+                .restaurantId(RESTAURANT_ID)
+                .products(List.of(new Product(productId)))
+                .build();
+    }
+
+    private Restaurant menu(long menuVersion, ProductId... productIds) {
+        return Restaurant.Builder.builder()
+                .restaurantId(RESTAURANT_ID)
+                .active(true)
+                .menuVersion(menuVersion)
+                .products(List.of(productIds).stream()
+                        .map(productId -> new Product(productId, "product", new Money(new BigDecimal("10.00"))))
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UuidBloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+
+    @Test
+    public void testNoFalseNegativesAndFalsePositiveRateWithinBound() {
+        UuidBloomFilter filter = new UuidBloomFilter(INSERTIONS, 0.01);
+        Random random = new Random(42);
+        List<UUID> inserted = new ArrayList<>(INSERTIONS);
+        for (int i = 0; i < INSERTIONS; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            inserted.add(id);
+            filter.put(id);
+        }
+        for (UUID id : inserted) {
+            assertTrue(filter.mightContain(id));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (filter.mightContain(new UUID(random.nextLong(), random.nextLong()))) {
+                falsePositives++;
+            }
+        }
+        double falsePositiveRate = (double) falsePositives / INSERTIONS;
+        assertTrue(falsePositiveRate < 0.015, "false positive rate " + falsePositiveRate);
+    }
+
+    @Test
+    public void testSequentialTimeOrderedIdsKeepTheFalsePositiveRate() {
+        UuidBloomFilter filter = new UuidBloomFilter(INSERTIONS, 0.01);
+        for (long i = 0; i < INSERTIONS; i++) {
+            filter.put(new UUID(0x0190_0000_0000_7000L + (i << 16), 0x8000_0000_0000_0000L | i));
+        }
+
+        int falsePositives = 0;
+        for (long i = INSERTIONS; i < 2L * INSERTIONS; i++) {
+            if (filter.mightContain(new UUID(0x0190_0000_0000_7000L + (i << 16), 0x8000_0000_0000_0000L | i))) {
+                falsePositives++;
+            }
+        }
+        double falsePositiveRate = (double) falsePositives / INSERTIONS;
+        assertTrue(falsePositiveRate < 0.015, "false positive rate " + falsePositiveRate);
+    }
+}
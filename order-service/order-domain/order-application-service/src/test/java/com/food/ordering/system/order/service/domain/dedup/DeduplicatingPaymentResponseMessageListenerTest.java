@@ -0,0 +1,76 @@
+package com.food.ordering.system.order.service.domain.dedup;
+
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DeduplicatingPaymentResponseMessageListenerTest {
+
+    private final PaymentResponseMessageListener paymentResponseMessageListener =
+            mock(PaymentResponseMessageListener.class);
+    private final DeduplicatingPaymentResponseMessageListener deduplicatingPaymentResponseMessageListener =
+            new DeduplicatingPaymentResponseMessageListener(paymentResponseMessageListener,
+                    new ProcessedMessageStore(Duration.ofMinutes(10), 4, 1000, Clock.systemUTC()));
+
+    @Test
+    public void testDuplicatesAreDroppedBeforeTheDelegate() {
+        PaymentResponse completed = paymentResponse(PaymentStatus.COMPLETED);
+        PaymentResponse failed = paymentResponse(PaymentStatus.FAILED);
+
+        deduplicatingPaymentResponseMessageListener.paymentResponsesReceived(List.of(completed, failed, completed));
+        verify(paymentResponseMessageListener).paymentResponsesReceived(List.of(completed, failed));
+
+        PaymentResponse next = paymentResponse(PaymentStatus.COMPLETED);
+        deduplicatingPaymentResponseMessageListener.paymentResponsesReceived(List.of(failed, next));
+        verify(paymentResponseMessageListener).paymentResponsesReceived(List.of(next));
+
+        deduplicatingPaymentResponseMessageListener.paymentResponsesReceived(List.of(completed));
+        verify(paymentResponseMessageListener, times(2)).paymentResponsesReceived(anyList());
+    }
+
+    @Test
+    public void testFailedBatchIsNotRecordedAsProcessed() {
+        PaymentResponse completed = paymentResponse(PaymentStatus.COMPLETED);
+        doThrow(new IllegalStateException("Database is down")).doNothing()
+                .when(paymentResponseMessageListener).paymentResponsesReceived(List.of(completed));
+
+        try {
+            deduplicatingPaymentResponseMessageListener.paymentResponsesReceived(List.of(completed));
+        } catch (IllegalStateException expected) {
+            // the batch is redelivered by the consumer
+        }
+        deduplicatingPaymentResponseMessageListener.paymentResponsesReceived(List.of(completed));
+
+        verify(paymentResponseMessageListener, times(2)).paymentResponsesReceived(List.of(completed));
+        verify(paymentResponseMessageListener, never()).paymentCompleted(completed);
+    }
+
+    private PaymentResponse paymentResponse(PaymentStatus paymentStatus) {
+        return PaymentResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .paymentId(UUID.randomUUID().toString())
+                .customerId(UUID.randomUUID().toString())
+                .price(new BigDecimal("50.00"))
+                .createdAt(Instant.now())
+                .paymentStatus(paymentStatus)
+                .failureMessages(List.of())
+                .build();
+    }
+}
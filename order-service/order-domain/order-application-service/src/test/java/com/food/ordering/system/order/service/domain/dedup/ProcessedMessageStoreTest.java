@@ -0,0 +1,88 @@
+package com.food.ordering.system.order.service.domain.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProcessedMessageStoreTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    public void testProcessedMessageIsDuplicateForTheSameStepOnly() {
+        ProcessedMessageStore processedMessageStore = new ProcessedMessageStore(Duration.ofMinutes(10), 4, 1000, clock);
+        String messageId = UUID.randomUUID().toString();
+
+        assertFalse(processedMessageStore.contains(messageId, SagaStep.PAYMENT_COMPLETED));
+        processedMessageStore.add(messageId, SagaStep.PAYMENT_COMPLETED);
+
+        assertTrue(processedMessageStore.contains(messageId, SagaStep.PAYMENT_COMPLETED));
+        assertFalse(processedMessageStore.contains(messageId, SagaStep.PAYMENT_CANCELLED));
+        assertFalse(processedMessageStore.contains(UUID.randomUUID().toString(), SagaStep.PAYMENT_COMPLETED));
+        assertFalse(processedMessageStore.contains("not-a-uuid", SagaStep.RESTAURANT_APPROVED));
+        processedMessageStore.add("not-a-uuid", SagaStep.RESTAURANT_APPROVED);
+        assertTrue(processedMessageStore.contains("not-a-uuid", SagaStep.RESTAURANT_APPROVED));
+        assertEquals(2, processedMessageStore.duplicateCount());
+    }
+
+    @Test
+    public void testProcessedMessageIsForgottenAfterTheWindow() {
+        ProcessedMessageStore processedMessageStore = new ProcessedMessageStore(Duration.ofMinutes(10), 4, 1000, clock);
+        String messageId = UUID.randomUUID().toString();
+        processedMessageStore.add(messageId, SagaStep.RESTAURANT_APPROVED);
+
+        clock.advance(Duration.ofMinutes(7));
+        assertTrue(processedMessageStore.contains(messageId, SagaStep.RESTAURANT_APPROVED));
+
+        clock.advance(Duration.ofMinutes(4));
+        assertFalse(processedMessageStore.contains(messageId, SagaStep.RESTAURANT_APPROVED));
+    }
+
+    @Test
+    public void testOldestMessagesAreForgottenWhenFull() {
+        ProcessedMessageStore processedMessageStore = new ProcessedMessageStore(Duration.ofMinutes(10), 4, 400, clock);
+        String first = UUID.randomUUID().toString();
+        processedMessageStore.add(first, SagaStep.PAYMENT_COMPLETED);
+        String last = null;
+        for (int i = 0; i < 1000; i++) {
+            last = UUID.randomUUID().toString();
+            processedMessageStore.add(last, SagaStep.PAYMENT_COMPLETED);
+        }
+
+        assertFalse(processedMessageStore.contains(first, SagaStep.PAYMENT_COMPLETED));
+        assertTrue(processedMessageStore.contains(last, SagaStep.PAYMENT_COMPLETED));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
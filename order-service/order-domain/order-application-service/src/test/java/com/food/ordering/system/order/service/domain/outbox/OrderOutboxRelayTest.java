@@ -0,0 +1,119 @@
+package com.food.ordering.system.order.service.domain.outbox;
+
+import com.food.ordering.system.domain.event.publisher.InMemoryDomainEventPublisher;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.config.OutboxConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.OrderOutboxRelay;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OrderOutboxRelayTest {
+
+    private final InMemoryOrderOutboxRepository orderOutboxRepository = new InMemoryOrderOutboxRepository();
+    private final OrderOutboxHelper orderOutboxHelper = new OrderOutboxHelper(orderOutboxRepository);
+    private final InMemoryDomainEventPublisher<OrderEventPayload> paymentRequestPublisher =
+            new InMemoryDomainEventPublisher<>();
+    private final InMemoryDomainEventPublisher<OrderEventPayload> restaurantApprovalRequestPublisher =
+            new InMemoryDomainEventPublisher<>();
+    private final ExecutorService relayExecutor = Executors.newFixedThreadPool(2);
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @AfterEach
+    public void shutdown() {
+        relayExecutor.shutdown();
+    }
+
+    @Test
+    public void testRelayPublishesPendingEventsInBatches() {
+        orderOutboxRelay = relay(3, false);
+        for (int i = 0; i < 7; i++) {
+            orderOutboxHelper.saveOrderEvent(new OrderCreatedEvent(order(), now()));
+        }
+
+        orderOutboxRelay.relayOutboxMessages();
+
+        assertEquals(7, paymentRequestPublisher.getPublished().size());
+        assertEquals(7, orderOutboxRepository.count(OutboxStatus.COMPLETED));
+    }
+
+    @Test
+    public void testRelayKeepsEventsOfAnOrderInOrderWhenPublishingFails() {
+        orderOutboxRelay = relay(10, true);
+        Order order = order();
+        Instant createdAt = now();
+        orderOutboxHelper.saveOrderEvent(new OrderCreatedEvent(order, createdAt));
+        orderOutboxHelper.saveOrderEvent(new OrderPaidEvent(order, createdAt.plusSeconds(1)));
+
+        orderOutboxRelay.relayBatch();
+
+        assertEquals(0, paymentRequestPublisher.getPublished().size());
+        assertEquals(0, restaurantApprovalRequestPublisher.getPublished().size());
+        assertEquals(2, orderOutboxRepository.count(OutboxStatus.STARTED));
+        assertEquals(1, orderOutboxRepository.findByOutboxStatus(OutboxStatus.STARTED, 10).get(0).getAttempts());
+    }
+
+    private OrderOutboxRelay relay(int batchSize, boolean failCreatedEvents) {
+        OutboxConfigData outboxConfigData = new OutboxConfigData();
+        outboxConfigData.setBatchSize(batchSize);
+        if (failCreatedEvents) {
+            paymentRequestPublisher.failWhen(payload -> true);
+        }
+        return new OrderOutboxRelay(orderOutboxRepository,
+                paymentRequestPublisher::publishAsync,
+                restaurantApprovalRequestPublisher::publishAsync,
+                paymentRequestPublisher::publishAsync,
+                outboxConfigData,
+                relayExecutor);
+    }
+
+    private Order order() {
+        Order order = Order.Builder.builder().build();
+        order.setId(new OrderId(UUID.randomUUID()));
+        return order;
+    }
+
+    private Instant now() {
+        return Instant.now();
+    }
+
+    private static class InMemoryOrderOutboxRepository implements OrderOutboxRepository {
+
+        private final Map<UUID, OrderOutboxMessage> messages = new ConcurrentHashMap<>();
+
+        @Override
+        public OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage) {
+            messages.put(orderOutboxMessage.getId(), orderOutboxMessage);
+            return orderOutboxMessage;
+        }
+
+        @Override
+        public List<OrderOutboxMessage> findByOutboxStatus(OutboxStatus outboxStatus, int limit) {
+            return messages.values().stream()
+                    .filter(message -> message.getOutboxStatus() == outboxStatus)
+                    .sorted((first, second) -> first.getCreatedAt().compareTo(second.getCreatedAt()))
+                    .limit(limit)
+                    .toList();
+        }
+
+        long count(OutboxStatus outboxStatus) {
+            return messages.values().stream().filter(message -> message.getOutboxStatus() == outboxStatus).count();
+        }
+    }
+}
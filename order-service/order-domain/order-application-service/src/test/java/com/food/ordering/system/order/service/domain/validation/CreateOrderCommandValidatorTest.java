@@ -0,0 +1,101 @@
+package com.food.ordering.system.order.service.domain.validation;
+
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CreateOrderCommandValidatorTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+    private static final UUID PRODUCT_ID_2 = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb49");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderCreateConfigData orderCreateConfigData = new OrderCreateConfigData();
+
+    @Test
+    public void testValidCommandIsAccepted() {
+        validator().validate(command("200.00",
+                item(PRODUCT_ID, 1, "50.00", "50.00"),
+                item(PRODUCT_ID_2, 3, "50", "150.00")));
+
+        assertEquals(0, meterRegistry.get("order.create.rejections").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    @Test
+    public void testMalformedCommandsAreRejectedAndCountedByReason() {
+        orderCreateConfigData.setMaxItems(2);
+        orderCreateConfigData.setMaxItemQuantity(10);
+        CreateOrderCommandValidator validator = validator();
+
+        assertRejected(validator, "item_count", "Order must have between 1 and 2 items!", command("150.00",
+                item(PRODUCT_ID, 1, "50.00", "50.00"),
+                item(PRODUCT_ID_2, 1, "50.00", "50.00"),
+                item(UUID.randomUUID(), 1, "50.00", "50.00")));
+        assertRejected(validator, "total_price", "Total price must be greater than zero and at most 100000.00!",
+                command("0.00", item(PRODUCT_ID, 1, "50.00", "50.00")));
+        assertRejected(validator, "product_id", "Product with id: " + PRODUCT_ID + " is ordered on more than one item!",
+                command("100.00", item(PRODUCT_ID, 1, "50.00", "50.00"), item(PRODUCT_ID, 1, "50.00", "50.00")));
+        assertRejected(validator, "item_quantity", "Order item quantity: 11 is no valid for product " + PRODUCT_ID,
+                command("550.00", item(PRODUCT_ID, 11, "50.00", "550.00")));
+        assertRejected(validator, "item_price", "Order item price: -50.00 is no valid for product " + PRODUCT_ID,
+                command("50.00", item(PRODUCT_ID, 1, "-50.00", "50.00")));
+        assertRejected(validator, "item_subtotal",
+                "Order item subtotal: 90.00 is no equals to price times quantity for product " + PRODUCT_ID,
+                command("90.00", item(PRODUCT_ID, 2, "50.00", "90.00")));
+        assertRejected(validator, "total_mismatch", "Total price: 250.00 is no equals to Order items total: 200.00!",
+                command("250.00", item(PRODUCT_ID, 1, "50.00", "50.00"), item(PRODUCT_ID_2, 3, "50.00", "150.00")));
+    }
+
+    @Test
+    public void testDuplicateProductsAreAcceptedWhenAllowed() {
+        orderCreateConfigData.setRejectDuplicateProducts(false);
+
+        validator().validate(command("100.00",
+                item(PRODUCT_ID, 1, "50.00", "50.00"),
+                item(PRODUCT_ID, 1, "50.00", "50.00")));
+    }
+
+    private CreateOrderCommandValidator validator() {
+        return new CreateOrderCommandValidator(orderCreateConfigData, new OrderMetrics(meterRegistry));
+    }
+
+    private void assertRejected(CreateOrderCommandValidator validator, String reason, String message,
+                                CreateOrderCommand createOrderCommand) {
+        OrderDomainException exception = assertThrows(OrderDomainException.class,
+                () -> validator.validate(createOrderCommand));
+
+        assertEquals(message, exception.getMessage());
+        assertEquals(1, meterRegistry.get("order.create.rejections").tag("reason", reason).counter().count());
+    }
+
+    private CreateOrderCommand command(String price, OrderItem... items) {
+        return CreateOrderCommand.builder()
+                .customerId(UUID.randomUUID())
+                .restaurantId(UUID.randomUUID())
+                .price(new BigDecimal(price))
+                .items(List.of(items))
+                .build();
+    }
+
+    private OrderItem item(UUID productId, int quantity, String price, String subTotal) {
+        return OrderItem.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .price(new BigDecimal(price))
+                .subTotal(new BigDecimal(subTotal))
+                .build();
+    }
+}
@@ -1,60 +1,71 @@
 package com.food.ordering.system.order.service.domain;
 
-import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.clock.DomainClock;
+import com.food.ordering.system.domain.id.UuidGenerator;
 import com.food.ordering.system.order.service.domain.entity.Order;
-import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.logging.OrderLogMarkers;
 import lombok.extern.slf4j.Slf4j;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 public class OrderDomainServiceImpl implements OrderDomainService {
 
-    private static final String UTC = "UTC";
+    private final DomainClock domainClock;
+
+    private final UuidGenerator orderIdGenerator;
+
+    public OrderDomainServiceImpl() {
+        this(DomainClock.system());
+    }
+
+    public OrderDomainServiceImpl(DomainClock domainClock) {
+        this(domainClock, UuidGenerator.timeOrdered());
+    }
+
+    public OrderDomainServiceImpl(DomainClock domainClock, UuidGenerator orderIdGenerator) {
+        this.domainClock = domainClock;
+        this.orderIdGenerator = orderIdGenerator;
+    }
 
     @Override
     public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
         validateRestaurant(restaurant);
-        setOrderProductInformation(order, restaurant);
-        order.validateOrder();
-        order.initializerOrder();
-        log.info("Order with id: {} is initiated", order.getId().getValue());
-        return new OrderCreatedEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+        order.validateOrder(restaurant);
+        order.initializerOrder(orderIdGenerator);
+        log.info(OrderLogMarkers.ORDER_EVENT, "Order with id: {} is initiated", order.getId().getValue());
+        return new OrderCreatedEvent(order, domainClock.instant());
     }
 
     @Override
     public OrderPaidEvent payOrder(Order order) {
         order.pay();
-        log.info("Order with id: {} is paid", order.getId().getValue());
-        return new OrderPaidEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+        log.info(OrderLogMarkers.ORDER_EVENT, "Order with id: {} is paid", order.getId().getValue());
+        return new OrderPaidEvent(order, domainClock.instant());
     }
 
     @Override
     public void approveOrder(Order order) {
         order.approve();
-        log.info("Order with id: {} is approve", order.getId().getValue());
+        log.info(OrderLogMarkers.ORDER_EVENT, "Order with id: {} is approve", order.getId().getValue());
     }
 
     @Override
     public OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages) {
         order.initCancel(failureMessages);
-        log.info("Order payment is cancelling for order id: {}", order.getId().getValue());
-        return new OrderCancelledEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+        log.info(OrderLogMarkers.ORDER_EVENT, "Order payment is cancelling for order id: {}", order.getId().getValue());
+        return new OrderCancelledEvent(order, domainClock.instant());
     }
 
     @Override
     public void cancelOrder(Order order, List<String> failureMessages) {
         order.cancel(failureMessages);
-        log.info("Order with id: {} is cancelled", order.getId().getValue());
+        log.info(OrderLogMarkers.ORDER_EVENT, "Order with id: {} is cancelled", order.getId().getValue());
     }
 
     private void validateRestaurant(Restaurant restaurant) {
@@ -63,17 +74,4 @@ public class OrderDomainServiceImpl implements OrderDomainService {
                     + " is currently not active!");
         }
     }
-
-    private void setOrderProductInformation(Order order, Restaurant restaurant) {
-        Map<ProductId, Product> restaurantProductMap = new HashMap<>();
-        restaurant.getProducts().forEach(restaurantProduct -> {
-            restaurantProductMap.put(restaurantProduct.getId(), restaurantProduct);
-        });
-        order.getItems().forEach(orderItem -> {
-            Product currentProduct = orderItem.getProduct();
-            Product restaurantProduct = restaurantProductMap.get(currentProduct.getId());
-            currentProduct.updateWithConfirmedNameAndPrice(restaurantProduct.getName(),
-                    restaurantProduct.getPrice());
-        });
-    }
 }
@@ -1,6 +1,7 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.UuidGenerator;
 import com.food.ordering.system.domain.valueobject.*;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
@@ -8,13 +9,18 @@ import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
 import java.util.List;
-import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 
 
 public class Order extends AggregateRoot<OrderId> {
 
+    private static final AtomicReferenceFieldUpdater<Order, OrderStatus> ORDER_STATUS =
+            AtomicReferenceFieldUpdater.newUpdater(Order.class, OrderStatus.class, "orderStatus");
+
+    private static final UuidGenerator TRACKING_ID_GENERATOR = UuidGenerator.secureRandom();
+
     private final CustomerId customerId;
     private final RestaurantId restaurantId;
     private final StreetAddress deliveryAddres;
@@ -22,53 +28,71 @@ public class Order extends AggregateRoot<OrderId> {
     private final List<OrderItem> items;
 
     private TrackingId trackingId;
-    private OrderStatus orderStatus;
+    private volatile OrderStatus orderStatus;
     private List<String> failureMessagges;
 
     /** CRTICAL BUSINESS LOGIC **/
 
     public void initializerOrder() {
-        setId(new OrderId(UUID.randomUUID()));
-        trackingId = new TrackingId(UUID.randomUUID());
+        initializerOrder(UuidGenerator.timeOrdered());
+    }
+
+    /**
+     * The order id comes from {@code orderIdGenerator}. The tracking id is given to the customer, so it is always a
+     * random id from {@link UuidGenerator#secureRandom()}.
+     */
+    public void initializerOrder(UuidGenerator orderIdGenerator) {
+        setId(new OrderId(orderIdGenerator.generate()));
+        trackingId = new TrackingId(TRACKING_ID_GENERATOR.generate());
         orderStatus = OrderStatus.PENDING;
         initializerOrderItems();
     }
 
-    public void validateOrder() {
+    /**
+     * Validates the order against the menu of {@code restaurant}. The items are walked once: each product is confirmed
+     * with its name and price on the menu, the item price is checked and its subtotal added to the items total, and
+     * the first invalid item stops the walk.
+     */
+    public void validateOrder(Restaurant restaurant) {
         validateInitialOrder();
         validateTotalPrice();
-        validateItemsPrice();
-
+        validateItems(restaurant);
     }
 
+    /*
+     * Status transitions compare and set the status, so of two threads applying a transition to the same instance
+     * only one succeeds and the other gets the same exception as for a wrong status.
+     */
+
     public void pay() {
-        if (orderStatus != OrderStatus.PENDING) {
-            throw new OrderDomainException("Order is not in correct state for pay operation!");
-        }
-        orderStatus = OrderStatus.PAID;
+        transition(OrderStatus.PENDING, OrderStatus.PAID, "pay");
     }
 
     public void  approve(){
-        if (orderStatus != OrderStatus.PAID) {
-            throw new OrderDomainException("Order is not in correct state for approve operation!");
-        }
-        orderStatus = OrderStatus.APPROVED;
+        transition(OrderStatus.PAID, OrderStatus.APPROVED, "approve");
     }
 
     public void initCancel(List<String> failureMessagges){
-        if (orderStatus != OrderStatus.PAID) {
-            throw new OrderDomainException("Order is not in correct state for initCancel operation!");
-        }
-        orderStatus = OrderStatus.CANELLING;
+        transition(OrderStatus.PAID, OrderStatus.CANELLING, "initCancel");
         updateFailureMessages(failureMessagges);
     }
 
     public void cancel(List<String> failureMessagges){
-        if (!(orderStatus == OrderStatus.PENDING || orderStatus == OrderStatus.CANELLING)) {
-            throw new OrderDomainException("Order is not in correct state for cancel operation!");
+        OrderStatus current = orderStatus;
+        while (current == OrderStatus.PENDING || current == OrderStatus.CANELLING) {
+            if (ORDER_STATUS.compareAndSet(this, current, OrderStatus.CANCELLED)) {
+                updateFailureMessages(failureMessagges);
+                return;
+            }
+            current = orderStatus;
+        }
+        throw new OrderDomainException("Order is not in correct state for cancel operation!");
+    }
+
+    private void transition(OrderStatus expected, OrderStatus next, String operation) {
+        if (!ORDER_STATUS.compareAndSet(this, expected, next)) {
+            throw new OrderDomainException("Order is not in correct state for " + operation + " operation!");
         }
-        orderStatus = OrderStatus.CANCELLED;
-        updateFailureMessages(failureMessagges);
     }
 
     private void updateFailureMessages(List<String> failureMessagges) {
@@ -87,23 +111,32 @@ public class Order extends AggregateRoot<OrderId> {
     }
 
     private void validateTotalPrice() {
-        if (price != null || !price.isGreaterThanZero())
+        if (price == null || !price.isGreaterThanZero())
             throw new OrderDomainException("Total price must be gerate than zero!");
     }
 
-    private void validateItemsPrice() {
-        Money orderItemTotal = items.stream()
-                .map(orderItem -> {
-                    validateItemPrice(orderItem);
-                    return orderItem.getSubTotal();
-                })
-                .reduce(Money.ZERO, Money::add);
+    private void validateItems(Restaurant restaurant) {
+        Money.Total itemsTotal = new Money.Total();
+        for (OrderItem orderItem : items) {
+            confirmProduct(orderItem.getProduct(), restaurant);
+            validateItemPrice(orderItem);
+            itemsTotal.add(orderItem.getSubTotal());
+        }
+        Money orderItemTotal = itemsTotal.get();
 
-        if (price.equals(orderItemTotal))
+        if (!price.equals(orderItemTotal))
             throw new OrderDomainException("Total price: " + price.getAmount()
                     + " is no equals to Order items total: " + orderItemTotal.getAmount() + "!");
     }
 
+    private void confirmProduct(Product product, Restaurant restaurant) {
+        Product restaurantProduct = restaurant.findProduct(product.getId());
+        if (restaurantProduct == null)
+            throw new OrderDomainException("Could not find product with id: " + product.getId().getValue()
+                    + " in restaurant with id: " + restaurant.getId().getValue());
+        product.updateWithConfirmedNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice());
+    }
+
     private void validateItemPrice(OrderItem orderItem) {
         if (!orderItem.isPriceValid())
             throw new OrderDomainException("Order item price: " + orderItem.getPrice().getAmount() +
@@ -127,6 +160,7 @@ public class Order extends AggregateRoot<OrderId> {
         trackingId = builder.trackingId;
         orderStatus = builder.orderStatus;
         failureMessagges = builder.failureMessagges;
+        setVersion(builder.version);
     }
 
 
@@ -172,6 +206,7 @@ public class Order extends AggregateRoot<OrderId> {
         private TrackingId trackingId;
         private OrderStatus orderStatus;
         private List<String> failureMessagges;
+        private long version;
 
         private Builder() {
         }
@@ -225,6 +260,11 @@ public class Order extends AggregateRoot<OrderId> {
             return this;
         }
 
+        public Builder version(long val) {
+            version = val;
+            return this;
+        }
+
         public Order build() {
             return new Order(this);
         }
@@ -20,7 +20,7 @@ public class OrderItem extends BaseEntity<OrderItemId> {
     boolean isPriceValid() {
         return price.isGreaterThanZero() &&
                 price.equals(product.getPrice()) &&
-                price.multiply(quantity).equals(subTotal);
+                price.isMultipliedEqualTo(quantity, subTotal);
     }
 
     private OrderItem(Builder builder) {
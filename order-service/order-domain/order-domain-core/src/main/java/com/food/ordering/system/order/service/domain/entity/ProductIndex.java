@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.domain.entity;
+
+import com.food.ordering.system.domain.valueobject.ProductId;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable open addressing index of a restaurant menu, keyed on the two longs of the product UUID.
+ * Lookups do not allocate, and once built the index can be read by any number of threads.
+ */
+final class ProductIndex {
+
+    private final long[] mostSignificantBits;
+    private final long[] leastSignificantBits;
+    private final Product[] products;
+    private final int mask;
+
+    ProductIndex(List<Product> menu) {
+        int capacity = Integer.highestOneBit(Math.max(2, menu.size()) * 2 - 1) << 1;
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        products = new Product[capacity];
+        mask = capacity - 1;
+        menu.forEach(this::put);
+    }
+
+    Product get(ProductId productId) {
+        UUID id = productId.getValue();
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        for (int slot = slot(msb, lsb); products[slot] != null; slot = (slot + 1) & mask) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                return products[slot];
+            }
+        }
+        return null;
+    }
+
+    private void put(Product product) {
+        UUID id = product.getId().getValue();
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int slot = slot(msb, lsb);
+        while (products[slot] != null
+                && (mostSignificantBits[slot] != msb || leastSignificantBits[slot] != lsb)) {
+            slot = (slot + 1) & mask;
+        }
+        mostSignificantBits[slot] = msb;
+        leastSignificantBits[slot] = lsb;
+        products[slot] = product;
+    }
+
+    private int slot(long msb, long lsb) {
+        long hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
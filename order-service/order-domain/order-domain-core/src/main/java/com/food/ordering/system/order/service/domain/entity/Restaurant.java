@@ -1,24 +1,46 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 
 import java.util.List;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
     private final List<Product> products;
+    private final long menuVersion;
     private boolean active;
 
+    private volatile ProductIndex productIndex;
+
     private Restaurant(Builder builder) {
         setId(builder.restaurantId);
-        products = builder.products;
+        products = builder.products == null ? List.of() : List.copyOf(builder.products);
+        menuVersion = builder.menuVersion;
         active = builder.active;
     }
 
+    /**
+     * Looks up a product of the menu through an index built on first use and reused by every later order served
+     * with this instance. A new menu version is loaded as a new restaurant, so it always gets its own index.
+     */
+    public Product findProduct(ProductId productId) {
+        ProductIndex index = productIndex;
+        if (index == null) {
+            index = new ProductIndex(products);
+            productIndex = index;
+        }
+        return index.get(productId);
+    }
+
     public List<Product> getProducts() {
         return products;
     }
 
+    public long getMenuVersion() {
+        return menuVersion;
+    }
+
     public boolean isActive() {
         return active;
     }
@@ -26,6 +48,7 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
     public static final class Builder {
         private RestaurantId restaurantId;
         private List<Product> products;
+        private long menuVersion;
         private boolean active;
 
         private Builder() {
@@ -45,6 +68,11 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
             return this;
         }
 
+        public Builder menuVersion(long val) {
+            menuVersion = val;
+            return this;
+        }
+
         public Builder active(boolean val) {
             active = val;
             return this;
@@ -1,24 +1,50 @@
 package com.food.ordering.system.order.service.domain.event;
 
+import com.food.ordering.system.domain.clock.DomainClock;
 import com.food.ordering.system.domain.event.DomainEvent;
 import com.food.ordering.system.order.service.domain.entity.Order;
 
+import java.time.Instant;
 import java.time.ZonedDateTime;
 
+/**
+ * An order transition. {@link #getOrder()} is the live aggregate and is only meant for the code that caused the
+ * event; anything that outlives it, like the outbox and the publishers, uses the {@link #getPayload() payload}
+ * taken when the event was created.
+ * <p>
+ * The creation time is kept as an {@link Instant}; the UTC {@link ZonedDateTime} is only built the first time
+ * {@link #getCreatedAt()} is called.
+ */
 public abstract class OrderEvent implements DomainEvent<Order> {
     private final Order order;
-    private final ZonedDateTime createdAt;
+    private final Instant createdAt;
+    private final OrderEventPayload payload;
+    private ZonedDateTime zonedCreatedAt;
 
-    protected OrderEvent(Order order, ZonedDateTime createdAt) {
+    protected OrderEvent(Order order, Instant createdAt) {
         this.order = order;
         this.createdAt = createdAt;
+        this.payload = OrderEventPayload.of(order, createdAt);
     }
 
     public Order getOrder() {
         return order;
     }
 
-    public ZonedDateTime getCreatedAt() {
+    public Instant getCreatedAtInstant() {
         return createdAt;
     }
+
+    public ZonedDateTime getCreatedAt() {
+        ZonedDateTime result = zonedCreatedAt;
+        if (result == null) {
+            result = DomainClock.atUtc(createdAt);
+            zonedCreatedAt = result;
+        }
+        return result;
+    }
+
+    public OrderEventPayload getPayload() {
+        return payload;
+    }
 }
@@ -0,0 +1,51 @@
+package com.food.ordering.system.order.service.domain.event;
+
+import com.food.ordering.system.domain.valueobject.BaseId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * What the payment and restaurant services need to know about an order event, copied from the {@link Order} when
+ * the event is created. It is immutable, so it can be stored, queued and published on other threads while the order
+ * keeps changing, and it does not carry the addresses, prices and names of the order items.
+ */
+public record OrderEventPayload(UUID orderId,
+                                UUID customerId,
+                                UUID restaurantId,
+                                Money price,
+                                OrderStatus orderStatus,
+                                Instant createdAt,
+                                List<OrderEventProduct> products,
+                                List<String> failureMessages) {
+
+    public OrderEventPayload {
+        products = products == null ? List.of() : List.copyOf(products);
+        failureMessages = failureMessages == null ? List.of() : List.copyOf(failureMessages);
+    }
+
+    public static OrderEventPayload of(Order order, Instant createdAt) {
+        List<OrderItem> items = order.getItems();
+        List<OrderEventProduct> products = new ArrayList<>(items == null ? 0 : items.size());
+        if (items != null) {
+            for (int i = 0; i < items.size(); i++) {
+                OrderItem orderItem = items.get(i);
+                products.add(new OrderEventProduct(orderItem.getProduct().getId().getValue(),
+                        orderItem.getQuantity()));
+            }
+        }
+        return new OrderEventPayload(value(order.getId()), value(order.getCustomerId()),
+                value(order.getRestaurantId()), order.getPrice(), order.getOrderStatus(), createdAt, products,
+                order.getFailureMessagges());
+    }
+
+    private static UUID value(BaseId<UUID> id) {
+        return id == null ? null : id.getValue();
+    }
+}
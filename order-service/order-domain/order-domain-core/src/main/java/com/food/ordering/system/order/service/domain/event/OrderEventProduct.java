@@ -0,0 +1,6 @@
+package com.food.ordering.system.order.service.domain.event;
+
+import java.util.UUID;
+
+public record OrderEventProduct(UUID productId, int quantity) {
+}
@@ -3,10 +3,10 @@ package com.food.ordering.system.order.service.domain.event;
 
 import com.food.ordering.system.order.service.domain.entity.Order;
 
-import java.time.ZonedDateTime;
+import java.time.Instant;
 
 public class OrderPaidEvent extends OrderEvent {
-    public OrderPaidEvent(Order order, ZonedDateTime createdAt) {
+    public OrderPaidEvent(Order order, Instant createdAt) {
         super(order, createdAt);
     }
 }
@@ -0,0 +1,14 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+import com.food.ordering.system.domain.exception.DomainException;
+
+/**
+ * An order kept changing between being loaded and being saved. Unlike {@link OrderDomainException} it does not mean
+ * the operation is invalid, so it is not a reason to drop a saga response: retrying it later can succeed.
+ */
+public class OrderVersionConflictException extends DomainException {
+
+    public OrderVersionConflictException(String message) {
+        super(message);
+    }
+}
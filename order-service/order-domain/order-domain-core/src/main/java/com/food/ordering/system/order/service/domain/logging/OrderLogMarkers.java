@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Markers of the log lines written once per order. The logging configuration can sample or demote the lines with
+ * {@link #ORDER_EVENT} without changing the level of the rest of the order service logs.
+ */
+public final class OrderLogMarkers {
+
+    public static final Marker ORDER_EVENT = MarkerFactory.getMarker("ORDER_EVENT");
+
+    private OrderLogMarkers() {
+    }
+}
@@ -0,0 +1,74 @@
+package com.food.ordering.system.order.service.domain.entity;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ProductIndexTest {
+
+    @Test
+    public void testCollidingIdsAreAllFound() {
+        // msb ^ lsb is 0 for every id, so all of them hash to the same slot
+        List<Product> menu = new ArrayList<>();
+        for (long i = 1; i <= 100; i++) {
+            menu.add(product(new UUID(i, i)));
+        }
+
+        ProductIndex productIndex = new ProductIndex(menu);
+
+        for (Product product : menu) {
+            assertSame(product, productIndex.get(product.getId()));
+        }
+        assertNull(productIndex.get(new ProductId(new UUID(101, 101))));
+    }
+
+    @Test
+    public void testMissingIdIsNotFound() {
+        List<Product> menu = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            menu.add(product(UUID.randomUUID()));
+        }
+
+        ProductIndex productIndex = new ProductIndex(menu);
+
+        assertSame(menu.get(500), productIndex.get(new ProductId(menu.get(500).getId().getValue())));
+        assertNull(productIndex.get(new ProductId(UUID.randomUUID())));
+    }
+
+    @Test
+    public void testEmptyMenuFindsNothing() {
+        assertNull(new ProductIndex(List.of()).get(new ProductId(UUID.randomUUID())));
+        assertNull(Restaurant.Builder.builder().restaurantId(new RestaurantId(UUID.randomUUID())).build()
+                .findProduct(new ProductId(UUID.randomUUID())));
+    }
+
+    @Test
+    public void testRestaurantKeepsItsOwnCopyOfTheMenu() {
+        Product product = product(UUID.randomUUID());
+        List<Product> menu = new ArrayList<>(List.of(product));
+        Restaurant restaurant = Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .products(menu)
+                .build();
+
+        menu.clear();
+        menu.add(product(UUID.randomUUID()));
+
+        assertEquals(List.of(product), restaurant.getProducts());
+        assertSame(product, restaurant.findProduct(product.getId()));
+    }
+
+    private static Product product(UUID id) {
+        return new Product(new ProductId(id), "product-" + id, new Money(new BigDecimal("10.00")));
+    }
+}
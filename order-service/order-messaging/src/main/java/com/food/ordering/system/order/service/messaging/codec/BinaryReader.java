@@ -0,0 +1,127 @@
+package com.food.ordering.system.order.service.messaging.codec;
+
+import com.food.ordering.system.domain.valueobject.Money;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Reads what {@link BinaryWriter} wrote. Reading past the end of the message throws
+ * {@link IllegalArgumentException}, like any other malformed input.
+ */
+public class BinaryReader {
+
+    private final byte[] buffer;
+
+    private final int limit;
+
+    private int position;
+
+    public BinaryReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed var int at position " + position);
+    }
+
+    /**
+     * Reads the element count of a collection, checking that it is not larger than what is left of the message, so
+     * a corrupt count cannot trigger a huge allocation.
+     */
+    public int readCount() {
+        int count = readVarInt();
+        if (count < 0 || count > limit - position) {
+            throw new IllegalArgumentException("Invalid element count " + count + " at position " + position);
+        }
+        return count;
+    }
+
+    public long readVarLong() {
+        long zigZag = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed var long at position " + position);
+    }
+
+    public long readLong() {
+        require(8);
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = result << 8 | (buffer[position++] & 0xFF);
+        }
+        return result;
+    }
+
+    public UUID readUuid() {
+        return new UUID(readLong(), readLong());
+    }
+
+    public Money readMoney() {
+        return Money.ofMinorUnits(readVarLong());
+    }
+
+    public Instant readInstant() {
+        long epochMicros = readLong();
+        return Instant.ofEpochSecond(Math.floorDiv(epochMicros, 1_000_000L),
+                Math.floorMod(epochMicros, 1_000_000L) * 1_000L);
+    }
+
+    public <E extends Enum<E>> E readEnum(E[] values) {
+        int ordinal = readByte();
+        if (ordinal >= values.length) {
+            throw new IllegalArgumentException("Unknown ordinal " + ordinal + " at position " + (position - 1));
+        }
+        return values[ordinal];
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+
+    private void require(int bytes) {
+        if (bytes < 0 || position + bytes > limit) {
+            throw new IllegalArgumentException("Message is truncated at position " + position);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.food.ordering.system.order.service.messaging.codec;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
+import com.food.ordering.system.order.service.domain.event.OrderEventProduct;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary form of the order event payloads. Version 1 of the schema, in field order:
+ * <pre>
+ * payload       version:byte, createdAt:micros, orderId:uuid, customerId:uuid, restaurantId:uuid,
+ *               status:OrderStatus, price:money, products:count * product, failureMessages:count * string
+ * product       productId:uuid, quantity:varint
+ * </pre>
+ * A {@code uuid} is two big-endian longs, {@code micros} a big-endian long of microseconds since the epoch,
+ * {@code money} a zig-zag varlong of hundredths, an enum its ordinal in one byte and a {@code count} a varint.
+ * Strings are length-prefixed UTF-8. The kind of event follows from the order status. Decoded timestamps are in UTC.
+ */
+@Component
+public class OrderEventBinaryCodec {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+
+    public void encode(OrderEventPayload payload, BinaryWriter writer) {
+        writer.writeByte(SCHEMA_VERSION);
+        writer.writeEpochMicros(payload.createdAt());
+        writer.writeUuid(payload.orderId());
+        writer.writeUuid(payload.customerId());
+        writer.writeUuid(payload.restaurantId());
+        writer.writeEnum(payload.orderStatus());
+        writer.writeMoney(payload.price());
+        List<OrderEventProduct> products = payload.products();
+        writer.writeVarInt(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            OrderEventProduct product = products.get(i);
+            writer.writeUuid(product.productId());
+            writer.writeVarInt(product.quantity());
+        }
+        List<String> failureMessages = payload.failureMessages();
+        writer.writeVarInt(failureMessages.size());
+        for (int i = 0; i < failureMessages.size(); i++) {
+            writer.writeString(failureMessages.get(i));
+        }
+    }
+
+    public byte[] encode(OrderEventPayload payload) {
+        BinaryWriter writer = new BinaryWriter();
+        encode(payload, writer);
+        return writer.toByteArray();
+    }
+
+    public OrderEventPayload decode(byte[] payload) {
+        return decode(new BinaryReader(payload));
+    }
+
+    public OrderEventPayload decode(BinaryReader reader) {
+        int version = reader.readByte();
+        if (version != SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Unsupported order event schema version: " + version);
+        }
+        Instant createdAt = reader.readInstant();
+        UUID orderId = reader.readUuid();
+        UUID customerId = reader.readUuid();
+        UUID restaurantId = reader.readUuid();
+        OrderStatus orderStatus = reader.readEnum(ORDER_STATUSES);
+        Money price = reader.readMoney();
+        int productCount = reader.readCount();
+        List<OrderEventProduct> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            products.add(new OrderEventProduct(reader.readUuid(), reader.readVarInt()));
+        }
+        int failureMessageCount = reader.readCount();
+        List<String> failureMessages = new ArrayList<>(failureMessageCount);
+        for (int i = 0; i < failureMessageCount; i++) {
+            failureMessages.add(reader.readString());
+        }
+        return new OrderEventPayload(orderId, customerId, restaurantId, price, orderStatus, createdAt, products,
+                failureMessages);
+    }
+}
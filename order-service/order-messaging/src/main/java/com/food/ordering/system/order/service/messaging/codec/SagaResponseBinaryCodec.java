@@ -0,0 +1,110 @@
+package com.food.ordering.system.order.service.messaging.codec;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary form of the saga responses. Version 1 of the schema, in field order:
+ * <pre>
+ * payment response     version:byte, id:uuid, sagaId:uuid, orderId:uuid, paymentId:uuid, customerId:uuid,
+ *                      price:money, createdAt:micros, status:PaymentStatus, failureMessages:count * string
+ * approval response    version:byte, id:uuid, sagaId:uuid, orderId:uuid, restaurantId:uuid, createdAt:micros,
+ *                      status:OrderApprovalStatus, failureMessages:count * string
+ * </pre>
+ * Types are encoded as described on {@link OrderEventBinaryCodec}. The ids are written from their string form
+ * without creating a {@link java.util.UUID}, and the price is rounded to hundredths.
+ */
+@Component
+public class SagaResponseBinaryCodec {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final PaymentStatus[] PAYMENT_STATUSES = PaymentStatus.values();
+
+    private static final OrderApprovalStatus[] ORDER_APPROVAL_STATUSES = OrderApprovalStatus.values();
+
+    public void encode(PaymentResponse paymentResponse, BinaryWriter writer) {
+        writer.writeByte(SCHEMA_VERSION);
+        writer.writeUuid(paymentResponse.getId());
+        writer.writeUuid(paymentResponse.getSagaId());
+        writer.writeUuid(paymentResponse.getOrderId());
+        writer.writeUuid(paymentResponse.getPaymentId());
+        writer.writeUuid(paymentResponse.getCustomerId());
+        writer.writeVarLong(paymentResponse.getPrice().setScale(2, RoundingMode.HALF_EVEN)
+                .movePointRight(2).longValueExact());
+        writer.writeEpochMicros(paymentResponse.getCreatedAt());
+        writer.writeEnum(paymentResponse.getPaymentStatus());
+        writeStrings(paymentResponse.getFailureMessages(), writer);
+    }
+
+    public PaymentResponse decodePaymentResponse(BinaryReader reader) {
+        readVersion(reader);
+        return PaymentResponse.builder()
+                .id(reader.readUuid().toString())
+                .sagaId(reader.readUuid().toString())
+                .orderId(reader.readUuid().toString())
+                .paymentId(reader.readUuid().toString())
+                .customerId(reader.readUuid().toString())
+                .price(BigDecimal.valueOf(reader.readVarLong(), 2))
+                .createdAt(reader.readInstant())
+                .paymentStatus(reader.readEnum(PAYMENT_STATUSES))
+                .failureMessages(readStrings(reader))
+                .build();
+    }
+
+    public void encode(RestaurantApprovalResponse restaurantApprovalResponse, BinaryWriter writer) {
+        writer.writeByte(SCHEMA_VERSION);
+        writer.writeUuid(restaurantApprovalResponse.getId());
+        writer.writeUuid(restaurantApprovalResponse.getSagaId());
+        writer.writeUuid(restaurantApprovalResponse.getOrderId());
+        writer.writeUuid(restaurantApprovalResponse.getRestaurantId());
+        writer.writeEpochMicros(restaurantApprovalResponse.getCreatedAt());
+        writer.writeEnum(restaurantApprovalResponse.getOrderApprovalStatus());
+        writeStrings(restaurantApprovalResponse.getFailureMessages(), writer);
+    }
+
+    public RestaurantApprovalResponse decodeRestaurantApprovalResponse(BinaryReader reader) {
+        readVersion(reader);
+        return RestaurantApprovalResponse.builder()
+                .id(reader.readUuid().toString())
+                .sagaId(reader.readUuid().toString())
+                .orderId(reader.readUuid().toString())
+                .restaurantId(reader.readUuid().toString())
+                .createdAt(reader.readInstant())
+                .orderApprovalStatus(reader.readEnum(ORDER_APPROVAL_STATUSES))
+                .failureMessages(readStrings(reader))
+                .build();
+    }
+
+    private static void readVersion(BinaryReader reader) {
+        int version = reader.readByte();
+        if (version != SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Unsupported saga response schema version: " + version);
+        }
+    }
+
+    private static void writeStrings(List<String> values, BinaryWriter writer) {
+        int count = values == null ? 0 : values.size();
+        writer.writeVarInt(count);
+        for (int i = 0; i < count; i++) {
+            writer.writeString(values.get(i));
+        }
+    }
+
+    private static List<String> readStrings(BinaryReader reader) {
+        int count = reader.readCount();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(reader.readString());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.order.service.messaging.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.util.Map;
+
+/**
+ * Consumers for the saga responses. Payloads are read as bytes and decoded by the listeners, so that a record that
+ * cannot be decoded is skipped instead of failing the whole poll.
+ * <p>
+ * Payment responses are consumed in batches and their offsets are committed once per batch, after the listener has
+ * returned. Restaurant approval responses are acknowledged one by one from worker threads, possibly out of order;
+ * with asynchronous acks the container only commits up to the lowest offset that is not acknowledged yet, and pauses
+ * the partition until the records of the previous poll are all acknowledged.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Bean
+    public ConsumerFactory<String, byte[]> batchConsumerFactory(KafkaProperties kafkaProperties,
+                                                                OrderMessagingConfigData orderMessagingConfigData) {
+        Map<String, Object> properties = kafkaProperties.buildConsumerProperties();
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, orderMessagingConfigData.getMaxPollRecords());
+        properties.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, orderMessagingConfigData.getFetchMinBytes());
+        properties.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG,
+                (int) orderMessagingConfigData.getFetchMaxWait().toMillis());
+        return new DefaultKafkaConsumerFactory<>(properties);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> paymentResponseListenerContainerFactory(
+            ConsumerFactory<String, byte[]> batchConsumerFactory,
+            OrderMessagingConfigData orderMessagingConfigData) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(orderMessagingConfigData.getPaymentResponseConcurrency());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> restaurantApprovalResponseListenerContainerFactory(
+            ConsumerFactory<String, byte[]> batchConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchConsumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+}
@@ -0,0 +1,66 @@
+package com.food.ordering.system.order.service.messaging.config;
+
+import com.food.ordering.system.domain.event.publisher.DurabilityMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.messaging")
+public class OrderMessagingConfigData {
+
+    private String paymentResponseTopicName = "payment-response";
+
+    private String paymentResponseConsumerGroupId = "payment-topic-consumer";
+
+    private int paymentResponseConcurrency = 1;
+
+    private String restaurantApprovalResponseTopicName = "restaurant-approval-response";
+
+    private String restaurantApprovalResponseConsumerGroupId = "restaurant-approval-topic-consumer";
+
+    /**
+     * Number of lanes restaurant approval responses are spread over by order id. 0 means one per available core.
+     */
+    private int restaurantApprovalWorkers = 0;
+
+    /**
+     * Maximum number of restaurant approval responses queued or being processed; the consumer blocks beyond that.
+     */
+    private int restaurantApprovalMaxInFlight = 1000;
+
+    private int restaurantApprovalMaxAttempts = 3;
+
+    private Duration restaurantApprovalRetryBackoff = Duration.ofMillis(200);
+
+    private String paymentRequestTopicName = "payment-request";
+
+    private String restaurantApprovalRequestTopicName = "restaurant-approval-request";
+
+    /**
+     * Events sent and not acknowledged yet, per publisher; publishing blocks beyond that.
+     */
+    private int publisherMaxOutstanding = 10_000;
+
+    /**
+     * Whether a synchronous publish waits for the broker. The outbox relay always waits for the acknowledgements of
+     * its batch, whatever this is set to.
+     */
+    private DurabilityMode publisherDurabilityMode = DurabilityMode.ASYNC;
+
+    /**
+     * Upper bound of a batch handed to the listener.
+     */
+    private int maxPollRecords = 1000;
+
+    /**
+     * Lets the broker hold a fetch until this much data is available, or until {@link #fetchMaxWait} has passed,
+     * so that batches fill up under load instead of being delivered a few records at a time.
+     */
+    private int fetchMinBytes = 1;
+
+    private Duration fetchMaxWait = Duration.ofMillis(500);
+}
@@ -0,0 +1,81 @@
+package com.food.ordering.system.order.service.messaging.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs tasks on a fixed number of single-threaded lanes chosen by key, so tasks with the same key run one after the
+ * other in submission order while tasks with different keys run in parallel.
+ * <p>
+ * At most {@code maxInFlight} tasks are queued or running at any time; {@link #execute(Object, Runnable)} blocks
+ * the submitting thread until a slot is free, which pushes back on whoever produces the tasks.
+ */
+public class KeyOrderedExecutor {
+
+    private final ExecutorService[] lanes;
+
+    private final Semaphore inFlight;
+
+    private final int maxInFlight;
+
+    public KeyOrderedExecutor(String name, int parallelism, int maxInFlight) {
+        this.lanes = new ExecutorService[Math.max(1, parallelism)];
+        AtomicInteger threadNumber = new AtomicInteger();
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.inFlight = new Semaphore(this.maxInFlight);
+    }
+
+    public void execute(Object key, Runnable task) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            lanes[lane(key)].execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    public int inFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ExecutorService lane : lanes) {
+            if (!lane.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int lane(Object key) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands every poll of payment responses to the application service as one batch. A record that cannot be decoded
+ * is logged and skipped; any failure of the batch itself is left to the container, which redelivers the batch as
+ * its offsets have not been committed.
+ */
+@Slf4j
+@Component
+public class PaymentResponseKafkaListener {
+
+    private final PaymentResponseMessageListener paymentResponseMessageListener;
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+
+    public PaymentResponseKafkaListener(PaymentResponseMessageListener paymentResponseMessageListener,
+                                        OrderMessagingDataMapper orderMessagingDataMapper) {
+        this.paymentResponseMessageListener = paymentResponseMessageListener;
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+    }
+
+    @KafkaListener(id = "${order-service.messaging.payment-response-consumer-group-id:payment-topic-consumer}",
+            topics = "${order-service.messaging.payment-response-topic-name:payment-response}",
+            containerFactory = "paymentResponseListenerContainerFactory")
+    public void receive(List<ConsumerRecord<String, byte[]>> records) {
+        List<PaymentResponse> paymentResponses = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> consumerRecord : records) {
+            try {
+                paymentResponses.add(orderMessagingDataMapper.paymentResponseMessageToPaymentResponse(
+                        orderMessagingDataMapper.bytesToPaymentResponseMessage(consumerRecord.value())));
+            } catch (Exception e) {
+                log.error("Could not decode payment response at partition: {} offset: {}, the record is skipped",
+                        consumerRecord.partition(), consumerRecord.offset(), e);
+            }
+        }
+        if (!paymentResponses.isEmpty()) {
+            paymentResponseMessageListener.paymentResponsesReceived(paymentResponses);
+        }
+        log.info("{} payment responses received in a batch of {} records", paymentResponses.size(), records.size());
+    }
+}
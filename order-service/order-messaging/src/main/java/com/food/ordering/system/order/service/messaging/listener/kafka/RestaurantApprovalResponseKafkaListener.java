@@ -0,0 +1,117 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.messaging.config.OrderMessagingConfigData;
+import com.food.ordering.system.order.service.messaging.executor.KeyOrderedExecutor;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes restaurant approval responses in parallel while keeping the responses of one order in partition order.
+ * <p>
+ * Records are decoded on the consumer thread and handed to a {@link KeyOrderedExecutor} keyed by order id. When
+ * too many responses are in flight the consumer thread blocks, so the container stops polling until workers catch
+ * up. Each record is acknowledged by its worker once processed, or once it has failed
+ * {@code restaurantApprovalMaxAttempts} times; the container commits only up to the lowest offset not acknowledged
+ * yet, so a restart redelivers everything that was not fully processed.
+ */
+@Slf4j
+@Component
+public class RestaurantApprovalResponseKafkaListener {
+
+    private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+
+    private final KeyOrderedExecutor keyOrderedExecutor;
+
+    private final int maxAttempts;
+
+    private final long retryBackoffMillis;
+
+    public RestaurantApprovalResponseKafkaListener(
+            RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener,
+            OrderMessagingDataMapper orderMessagingDataMapper,
+            OrderMessagingConfigData orderMessagingConfigData) {
+        this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        int workers = orderMessagingConfigData.getRestaurantApprovalWorkers() > 0
+                ? orderMessagingConfigData.getRestaurantApprovalWorkers()
+                : Runtime.getRuntime().availableProcessors();
+        this.keyOrderedExecutor = new KeyOrderedExecutor("restaurant-approval-worker", workers,
+                orderMessagingConfigData.getRestaurantApprovalMaxInFlight());
+        this.maxAttempts = Math.max(1, orderMessagingConfigData.getRestaurantApprovalMaxAttempts());
+        this.retryBackoffMillis = orderMessagingConfigData.getRestaurantApprovalRetryBackoff().toMillis();
+    }
+
+    @KafkaListener(id = "${order-service.messaging.restaurant-approval-response-consumer-group-id:restaurant-approval-topic-consumer}",
+            topics = "${order-service.messaging.restaurant-approval-response-topic-name:restaurant-approval-response}",
+            containerFactory = "restaurantApprovalResponseListenerContainerFactory")
+    public void receive(ConsumerRecord<String, byte[]> consumerRecord, Acknowledgment acknowledgment)
+            throws InterruptedException {
+        RestaurantApprovalResponse restaurantApprovalResponse;
+        try {
+            restaurantApprovalResponse = orderMessagingDataMapper
+                    .restaurantApprovalResponseMessageToRestaurantApprovalResponse(
+                            orderMessagingDataMapper.bytesToRestaurantApprovalResponseMessage(consumerRecord.value()));
+        } catch (Exception e) {
+            log.error("Could not decode restaurant approval response at partition: {} offset: {}, the record is skipped",
+                    consumerRecord.partition(), consumerRecord.offset(), e);
+            acknowledgment.acknowledge();
+            return;
+        }
+        keyOrderedExecutor.execute(restaurantApprovalResponse.getOrderId(), () -> {
+            if (process(restaurantApprovalResponse, consumerRecord)) {
+                acknowledgment.acknowledge();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        keyOrderedExecutor.shutdown();
+        keyOrderedExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return false only when the worker was interrupted, in which case the record is left unacknowledged so that it
+     * is redelivered after a restart
+     */
+    private boolean process(RestaurantApprovalResponse restaurantApprovalResponse,
+                         ConsumerRecord<String, byte[]> consumerRecord) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (OrderApprovalStatus.APPROVED == restaurantApprovalResponse.getOrderApprovalStatus()) {
+                    restaurantApprovalResponseMessageListener.orderApprove(restaurantApprovalResponse);
+                } else {
+                    restaurantApprovalResponseMessageListener.orderRejected(restaurantApprovalResponse);
+                }
+                return true;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Restaurant approval response for order id: {} at partition: {} offset: {} failed " +
+                                    "after {} attempts, the record is skipped", restaurantApprovalResponse.getOrderId(),
+                            consumerRecord.partition(), consumerRecord.offset(), attempt, e);
+                    return true;
+                }
+                log.warn("Restaurant approval response for order id: {} failed on attempt {}, retrying",
+                        restaurantApprovalResponse.getOrderId(), attempt, e);
+                try {
+                    Thread.sleep(retryBackoffMillis * attempt);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.messaging.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.messaging.model.PaymentResponseMessage;
+import com.food.ordering.system.order.service.messaging.model.RestaurantApprovalResponseMessage;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+
+@Component
+public class OrderMessagingDataMapper {
+
+    private static final ObjectReader PAYMENT_RESPONSE_MESSAGE_READER =
+            new ObjectMapper().readerFor(PaymentResponseMessage.class);
+
+    private static final ObjectReader RESTAURANT_APPROVAL_RESPONSE_MESSAGE_READER =
+            new ObjectMapper().readerFor(RestaurantApprovalResponseMessage.class);
+
+    public PaymentResponseMessage bytesToPaymentResponseMessage(byte[] payload) throws IOException {
+        return PAYMENT_RESPONSE_MESSAGE_READER.readValue(payload);
+    }
+
+    public PaymentResponse paymentResponseMessageToPaymentResponse(PaymentResponseMessage paymentResponseMessage) {
+        return PaymentResponse.builder()
+                .id(paymentResponseMessage.getId())
+                .sagaId(paymentResponseMessage.getSagaId())
+                .orderId(paymentResponseMessage.getOrderId())
+                .paymentId(paymentResponseMessage.getPaymentId())
+                .customerId(paymentResponseMessage.getCustomerId())
+                .price(paymentResponseMessage.getPrice())
+                .createdAt(Instant.ofEpochMilli(paymentResponseMessage.getCreatedAt()))
+                .paymentStatus(PaymentStatus.valueOf(paymentResponseMessage.getPaymentStatus()))
+                .failureMessages(paymentResponseMessage.getFailureMessages())
+                .build();
+    }
+
+    public RestaurantApprovalResponseMessage bytesToRestaurantApprovalResponseMessage(byte[] payload)
+            throws IOException {
+        return RESTAURANT_APPROVAL_RESPONSE_MESSAGE_READER.readValue(payload);
+    }
+
+    public RestaurantApprovalResponse restaurantApprovalResponseMessageToRestaurantApprovalResponse(
+            RestaurantApprovalResponseMessage restaurantApprovalResponseMessage) {
+        return RestaurantApprovalResponse.builder()
+                .id(restaurantApprovalResponseMessage.getId())
+                .sagaId(restaurantApprovalResponseMessage.getSagaId())
+                .orderId(restaurantApprovalResponseMessage.getOrderId())
+                .restaurantId(restaurantApprovalResponseMessage.getRestaurantId())
+                .createdAt(Instant.ofEpochMilli(restaurantApprovalResponseMessage.getCreatedAt()))
+                .orderApprovalStatus(
+                        OrderApprovalStatus.valueOf(restaurantApprovalResponseMessage.getOrderApprovalStatus()))
+                .failureMessages(restaurantApprovalResponseMessage.getFailureMessages())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.food.ordering.system.order.service.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Payment response as published by the payment service. {@code createdAt} is in epoch milliseconds and
+ * {@code paymentStatus} is the name of a {@link com.food.ordering.system.domain.valueobject.PaymentStatus}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentResponseMessage {
+
+    private String id;
+
+    private String sagaId;
+
+    private String orderId;
+
+    private String paymentId;
+
+    private String customerId;
+
+    private BigDecimal price;
+
+    private long createdAt;
+
+    private String paymentStatus;
+
+    private List<String> failureMessages;
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.order.service.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Restaurant approval response as published by the restaurant service. {@code createdAt} is in epoch milliseconds
+ * and {@code orderApprovalStatus} is the name of a
+ * {@link com.food.ordering.system.domain.valueobject.OrderApprovalStatus}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantApprovalResponseMessage {
+
+    private String id;
+
+    private String sagaId;
+
+    private String orderId;
+
+    private String restaurantId;
+
+    private long createdAt;
+
+    private String orderApprovalStatus;
+
+    private List<String> failureMessages;
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.codec.OrderEventBinaryCodec;
+import com.food.ordering.system.order.service.messaging.config.OrderMessagingConfigData;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderCancelledPaymentRequestKafkaPublisher extends OrderEventKafkaPublisher implements OrderCancelledPaymentRequestMessagePublisher {
+
+    public OrderCancelledPaymentRequestKafkaPublisher(KafkaTemplate<String, byte[]> orderEventKafkaTemplate,
+                                                  OrderEventBinaryCodec orderEventBinaryCodec,
+                                                  OrderMessagingConfigData orderMessagingConfigData) {
+        super(orderMessagingConfigData.getPaymentRequestTopicName(), orderEventKafkaTemplate, orderEventBinaryCodec,
+                orderMessagingConfigData);
+    }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.codec.OrderEventBinaryCodec;
+import com.food.ordering.system.order.service.messaging.config.OrderMessagingConfigData;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderCreatedPaymentRequestKafkaPublisher extends OrderEventKafkaPublisher implements OrderCreatedPaymentRequestMessagePublisher {
+
+    public OrderCreatedPaymentRequestKafkaPublisher(KafkaTemplate<String, byte[]> orderEventKafkaTemplate,
+                                                OrderEventBinaryCodec orderEventBinaryCodec,
+                                                OrderMessagingConfigData orderMessagingConfigData) {
+        super(orderMessagingConfigData.getPaymentRequestTopicName(), orderEventKafkaTemplate, orderEventBinaryCodec,
+                orderMessagingConfigData);
+    }
+}
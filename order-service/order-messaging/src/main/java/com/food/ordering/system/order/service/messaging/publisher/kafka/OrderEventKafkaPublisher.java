@@ -0,0 +1,54 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.domain.event.publisher.AsyncDomainEventPublisher;
+import com.food.ordering.system.domain.event.publisher.PipelinedDomainEventPublisher;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
+import com.food.ordering.system.order.service.messaging.codec.BinaryWriter;
+import com.food.ordering.system.order.service.messaging.codec.OrderEventBinaryCodec;
+import com.food.ordering.system.order.service.messaging.config.OrderMessagingConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publishes order event payloads to one topic, keyed by order id and in their binary form, through a
+ * {@link PipelinedDomainEventPublisher}.
+ */
+@Slf4j
+public class OrderEventKafkaPublisher implements AsyncDomainEventPublisher<OrderEventPayload> {
+
+    private static final ThreadLocal<BinaryWriter> WRITER = ThreadLocal.withInitial(BinaryWriter::new);
+
+    private final PipelinedDomainEventPublisher<OrderEventPayload> publisher;
+
+    public OrderEventKafkaPublisher(String topicName,
+                                    KafkaTemplate<String, byte[]> kafkaTemplate,
+                                    OrderEventBinaryCodec orderEventBinaryCodec,
+                                    OrderMessagingConfigData orderMessagingConfigData) {
+        this.publisher = new PipelinedDomainEventPublisher<>(
+                payload -> {
+                    BinaryWriter writer = WRITER.get().reset();
+                    orderEventBinaryCodec.encode(payload, writer);
+                    return kafkaTemplate.send(topicName, payload.orderId().toString(), writer.toByteArray());
+                },
+                orderMessagingConfigData.getPublisherMaxOutstanding(),
+                orderMessagingConfigData.getPublisherDurabilityMode(),
+                (payload, cause) -> log.error("Could not publish {} event to topic: {} for order id: {}",
+                        payload.orderStatus(), topicName, payload.orderId(), cause));
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(OrderEventPayload payload) {
+        return publisher.publishAsync(payload);
+    }
+
+    @Override
+    public void publish(OrderEventPayload payload) {
+        publisher.publish(payload);
+    }
+
+    public int outstanding() {
+        return publisher.outstanding();
+    }
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.messaging;
+
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+@SpringBootApplication(scanBasePackages = "com.food.ordering.system.order.service.messaging")
+public class MessagingTestConfiguration {
+
+    @Bean
+    public PaymentResponseMessageListener paymentResponseMessageListener() {
+        return Mockito.mock(PaymentResponseMessageListener.class);
+    }
+
+    @Bean
+    public RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener() {
+        return new RecordingRestaurantApprovalResponseMessageListener();
+    }
+}
@@ -0,0 +1,67 @@
+package com.food.ordering.system.order.service.messaging;
+
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the response ids received per order, and the highest number of orders processed at the same time.
+ */
+public class RecordingRestaurantApprovalResponseMessageListener implements RestaurantApprovalResponseMessageListener {
+
+    private final Map<String, List<String>> responseIdsByOrderId = new ConcurrentHashMap<>();
+
+    private final Set<String> ordersInProgress = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger maxConcurrency = new AtomicInteger();
+
+    private final AtomicInteger received = new AtomicInteger();
+
+    @Override
+    public void orderApprove(RestaurantApprovalResponse restaurantApprovalResponse) {
+        record(restaurantApprovalResponse);
+    }
+
+    @Override
+    public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
+        record(restaurantApprovalResponse);
+    }
+
+    public Map<String, List<String>> getResponseIdsByOrderId() {
+        return responseIdsByOrderId;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency.get();
+    }
+
+    public int getReceived() {
+        return received.get();
+    }
+
+    private void record(RestaurantApprovalResponse restaurantApprovalResponse) {
+        String orderId = restaurantApprovalResponse.getOrderId();
+        if (!ordersInProgress.add(orderId)) {
+            throw new IllegalStateException("Order " + orderId + " is already being processed");
+        }
+        try {
+            maxConcurrency.accumulateAndGet(ordersInProgress.size(), Math::max);
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            responseIdsByOrderId.computeIfAbsent(orderId, key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(restaurantApprovalResponse.getId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ordersInProgress.remove(orderId);
+            received.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.messaging.codec;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
+import com.food.ordering.system.order.service.domain.event.OrderEventProduct;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OrderEventBinaryCodecTest {
+
+    private final OrderEventBinaryCodec orderEventBinaryCodec = new OrderEventBinaryCodec();
+
+    @Test
+    public void testOrderEventPayloadRoundTrip() {
+        OrderEventPayload payload = payload(Instant.parse("2024-03-01T12:30:15.123456789Z"));
+
+        OrderEventPayload decoded = orderEventBinaryCodec.decode(orderEventBinaryCodec.encode(payload));
+
+        assertEquals(new OrderEventPayload(payload.orderId(), payload.customerId(), payload.restaurantId(),
+                payload.price(), payload.orderStatus(), Instant.parse("2024-03-01T12:30:15.123456Z"), payload.products(),
+                payload.failureMessages()), decoded);
+    }
+
+    @Test
+    public void testReusedWriterProducesTheSameBytes() {
+        OrderEventPayload payload = payload(Instant.now());
+        BinaryWriter writer = new BinaryWriter(16);
+        orderEventBinaryCodec.encode(payload, writer.reset());
+        orderEventBinaryCodec.encode(payload, writer.reset());
+
+        assertArrayEquals(orderEventBinaryCodec.encode(payload), writer.toByteArray());
+    }
+
+    @Test
+    public void testTruncatedPayloadIsRejected() {
+        byte[] encoded = orderEventBinaryCodec.encode(payload(Instant.now()));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+
+        assertThrows(IllegalArgumentException.class, () -> orderEventBinaryCodec.decode(truncated));
+    }
+
+    private OrderEventPayload payload(Instant createdAt) {
+        return new OrderEventPayload(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                new Money(new BigDecimal("200.00")), OrderStatus.CANELLING, createdAt,
+                List.of(new OrderEventProduct(UUID.randomUUID(), 1), new OrderEventProduct(UUID.randomUUID(), 3)),
+                List.of("Insufficient credit", "Restaurant is closed: São João 🚲"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.food.ordering.system.order.service.messaging.codec;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SagaResponseBinaryCodecTest {
+
+    private final SagaResponseBinaryCodec sagaResponseBinaryCodec = new SagaResponseBinaryCodec();
+
+    @Test
+    public void testPaymentResponseRoundTrip() {
+        PaymentResponse paymentResponse = PaymentResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .paymentId(UUID.randomUUID().toString())
+                .customerId(UUID.randomUUID().toString())
+                .price(new BigDecimal("-12.5"))
+                .createdAt(Instant.parse("2024-03-01T12:30:15.123456Z"))
+                .paymentStatus(PaymentStatus.FAILED)
+                .failureMessages(List.of("Insufficient credit"))
+                .build();
+        BinaryWriter writer = new BinaryWriter();
+        sagaResponseBinaryCodec.encode(paymentResponse, writer);
+
+        PaymentResponse decoded = sagaResponseBinaryCodec.decodePaymentResponse(
+                new BinaryReader(writer.buffer(), 0, writer.size()));
+
+        assertEquals(paymentResponse.getId(), decoded.getId());
+        assertEquals(paymentResponse.getSagaId(), decoded.getSagaId());
+        assertEquals(paymentResponse.getOrderId(), decoded.getOrderId());
+        assertEquals(paymentResponse.getPaymentId(), decoded.getPaymentId());
+        assertEquals(paymentResponse.getCustomerId(), decoded.getCustomerId());
+        assertEquals(new BigDecimal("-12.50"), decoded.getPrice());
+        assertEquals(paymentResponse.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(paymentResponse.getPaymentStatus(), decoded.getPaymentStatus());
+        assertEquals(paymentResponse.getFailureMessages(), decoded.getFailureMessages());
+    }
+
+    @Test
+    public void testRestaurantApprovalResponseRoundTrip() {
+        RestaurantApprovalResponse restaurantApprovalResponse = RestaurantApprovalResponse.builder()
+                .id(UUID.randomUUID().toString().toUpperCase())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .restaurantId(UUID.randomUUID().toString())
+                .createdAt(Instant.parse("1969-12-31T23:59:59.999999Z"))
+                .orderApprovalStatus(OrderApprovalStatus.REJECTED)
+                .failureMessages(null)
+                .build();
+        BinaryWriter writer = new BinaryWriter();
+        sagaResponseBinaryCodec.encode(restaurantApprovalResponse, writer);
+
+        RestaurantApprovalResponse decoded = sagaResponseBinaryCodec.decodeRestaurantApprovalResponse(
+                new BinaryReader(writer.toByteArray()));
+
+        assertEquals(restaurantApprovalResponse.getId().toLowerCase(), decoded.getId());
+        assertEquals(restaurantApprovalResponse.getSagaId(), decoded.getSagaId());
+        assertEquals(restaurantApprovalResponse.getOrderId(), decoded.getOrderId());
+        assertEquals(restaurantApprovalResponse.getRestaurantId(), decoded.getRestaurantId());
+        assertEquals(restaurantApprovalResponse.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(restaurantApprovalResponse.getOrderApprovalStatus(), decoded.getOrderApprovalStatus());
+        assertEquals(List.of(), decoded.getFailureMessages());
+    }
+}
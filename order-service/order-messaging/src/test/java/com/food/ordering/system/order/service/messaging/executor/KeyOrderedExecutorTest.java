@@ -0,0 +1,86 @@
+package com.food.ordering.system.order.service.messaging.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeyOrderedExecutorTest {
+
+    private KeyOrderedExecutor keyOrderedExecutor;
+
+    @AfterEach
+    public void shutdown() throws InterruptedException {
+        keyOrderedExecutor.shutdown();
+        keyOrderedExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testTasksOfAKeyRunInSubmissionOrder() throws InterruptedException {
+        keyOrderedExecutor = new KeyOrderedExecutor("test", 4, 16);
+        Map<Integer, List<Integer>> executedByKey = new ConcurrentHashMap<>();
+        for (int task = 0; task < 100; task++) {
+            for (int key = 0; key < 10; key++) {
+                int currentKey = key;
+                int currentTask = task;
+                keyOrderedExecutor.execute(key, () -> executedByKey
+                        .computeIfAbsent(currentKey, k -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(currentTask));
+            }
+        }
+        keyOrderedExecutor.shutdown();
+        assertTrue(keyOrderedExecutor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(10, executedByKey.size());
+        List<Integer> expected = new ArrayList<>();
+        for (int task = 0; task < 100; task++) {
+            expected.add(task);
+        }
+        executedByKey.values().forEach(executed -> assertEquals(expected, executed));
+    }
+
+    @Test
+    public void testSubmitBlocksWhenMaxInFlightIsReached() throws InterruptedException {
+        keyOrderedExecutor = new KeyOrderedExecutor("test", 2, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        keyOrderedExecutor.execute(1, () -> await(release));
+        keyOrderedExecutor.execute(2, () -> await(release));
+        assertEquals(2, keyOrderedExecutor.inFlight());
+
+        AtomicBoolean submitted = new AtomicBoolean();
+        Thread submitter = new Thread(() -> {
+            try {
+                keyOrderedExecutor.execute(3, () -> { });
+                submitted.set(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        submitter.start();
+        submitter.join(200);
+        assertFalse(submitted.get());
+
+        release.countDown();
+        submitter.join(5_000);
+        assertTrue(submitted.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.messaging.MessagingTestConfiguration;
+import com.food.ordering.system.order.service.messaging.model.PaymentResponseMessage;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(classes = MessagingTestConfiguration.class)
+@EmbeddedKafka(partitions = 1, topics = {"payment-response", "restaurant-approval-response"})
+public class PaymentResponseKafkaListenerTest {
+
+    private static final int MESSAGE_COUNT = 200;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+    @Autowired
+    private PaymentResponseMessageListener paymentResponseMessageListener;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPaymentResponsesAreConsumedInBatches() throws Exception {
+        Set<String> orderIds = new HashSet<>();
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(embeddedKafkaBroker), new StringSerializer(), new ByteArraySerializer());
+        try {
+            KafkaTemplate<String, byte[]> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+            kafkaTemplate.send("payment-response", "poison", "not a payment response".getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < MESSAGE_COUNT; i++) {
+                String orderId = UUID.randomUUID().toString();
+                orderIds.add(orderId);
+                kafkaTemplate.send("payment-response", orderId, objectMapper.writeValueAsBytes(PaymentResponseMessage.builder()
+                        .id(UUID.randomUUID().toString())
+                        .sagaId(UUID.randomUUID().toString())
+                        .orderId(orderId)
+                        .paymentId(UUID.randomUUID().toString())
+                        .customerId(UUID.randomUUID().toString())
+                        .price(new BigDecimal("50.00"))
+                        .createdAt(System.currentTimeMillis())
+                        .paymentStatus(i % 10 == 0 ? PaymentStatus.FAILED.name() : PaymentStatus.COMPLETED.name())
+                        .failureMessages(List.of())
+                        .build()));
+            }
+            kafkaTemplate.flush();
+        } finally {
+            producerFactory.destroy();
+        }
+
+        ArgumentCaptor<List<PaymentResponse>> batches = ArgumentCaptor.forClass(List.class);
+        Set<String> receivedOrderIds = new HashSet<>();
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (receivedOrderIds.size() < MESSAGE_COUNT && System.currentTimeMillis() < deadline) {
+            verify(paymentResponseMessageListener, timeout(10_000).atLeastOnce()).paymentResponsesReceived(batches.capture());
+            receivedOrderIds.clear();
+            batches.getAllValues().forEach(batch -> batch.forEach(response -> receivedOrderIds.add(response.getOrderId())));
+        }
+
+        assertEquals(orderIds, receivedOrderIds);
+        assertTrue(batches.getAllValues().stream().anyMatch(batch -> batch.size() > 1));
+        assertEquals(MESSAGE_COUNT + 1, committedOffset());
+    }
+
+    private long committedOffset() throws Exception {
+        try (AdminClient adminClient = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG,
+                embeddedKafkaBroker.getBrokersAsString()))) {
+            long deadline = System.currentTimeMillis() + 10_000;
+            long offset = -1;
+            while (offset != MESSAGE_COUNT + 1 && System.currentTimeMillis() < deadline) {
+                OffsetAndMetadata offsetAndMetadata = adminClient.listConsumerGroupOffsets("payment-topic-consumer")
+                        .partitionsToOffsetAndMetadata().get()
+                        .get(new TopicPartition("payment-response", 0));
+                offset = offsetAndMetadata == null ? -1 : offsetAndMetadata.offset();
+                if (offset != MESSAGE_COUNT + 1) {
+                    Thread.sleep(100);
+                }
+            }
+            return offset;
+        }
+    }
+}
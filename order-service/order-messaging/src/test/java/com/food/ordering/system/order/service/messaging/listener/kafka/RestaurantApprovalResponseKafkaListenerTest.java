@@ -0,0 +1,112 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.order.service.messaging.MessagingTestConfiguration;
+import com.food.ordering.system.order.service.messaging.RecordingRestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.messaging.model.RestaurantApprovalResponseMessage;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = MessagingTestConfiguration.class)
+@EmbeddedKafka(partitions = 1, topics = {"payment-response", "restaurant-approval-response"})
+public class RestaurantApprovalResponseKafkaListenerTest {
+
+    private static final int ORDER_COUNT = 20;
+    private static final int RESPONSES_PER_ORDER = 10;
+    private static final int MESSAGE_COUNT = ORDER_COUNT * RESPONSES_PER_ORDER;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+    @Autowired
+    private RecordingRestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testResponsesOfAnOrderAreProcessedInOrder() throws Exception {
+        List<String> orderIds = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orderIds.add(UUID.randomUUID().toString());
+        }
+        Map<String, List<String>> sentResponseIds = new HashMap<>();
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(embeddedKafkaBroker), new StringSerializer(), new ByteArraySerializer());
+        try {
+            KafkaTemplate<String, byte[]> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+            kafkaTemplate.send("restaurant-approval-response", "poison",
+                    "not a restaurant approval response".getBytes(StandardCharsets.UTF_8));
+            for (int response = 0; response < RESPONSES_PER_ORDER; response++) {
+                for (String orderId : orderIds) {
+                    String responseId = UUID.randomUUID().toString();
+                    sentResponseIds.computeIfAbsent(orderId, key -> new ArrayList<>()).add(responseId);
+                    kafkaTemplate.send("restaurant-approval-response", orderId, objectMapper.writeValueAsBytes(
+                            RestaurantApprovalResponseMessage.builder()
+                                    .id(responseId)
+                                    .sagaId(UUID.randomUUID().toString())
+                                    .orderId(orderId)
+                                    .restaurantId(UUID.randomUUID().toString())
+                                    .createdAt(System.currentTimeMillis())
+                                    .orderApprovalStatus(response % 2 == 0 ? OrderApprovalStatus.APPROVED.name()
+                                            : OrderApprovalStatus.REJECTED.name())
+                                    .failureMessages(List.of())
+                                    .build()));
+                }
+            }
+            kafkaTemplate.flush();
+        } finally {
+            producerFactory.destroy();
+        }
+
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (restaurantApprovalResponseMessageListener.getReceived() < MESSAGE_COUNT
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertEquals(MESSAGE_COUNT, restaurantApprovalResponseMessageListener.getReceived());
+        assertEquals(sentResponseIds, restaurantApprovalResponseMessageListener.getResponseIdsByOrderId());
+        assertTrue(restaurantApprovalResponseMessageListener.getMaxConcurrency() > 1);
+        assertEquals(MESSAGE_COUNT + 1, committedOffset());
+    }
+
+    private long committedOffset() throws Exception {
+        try (AdminClient adminClient = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG,
+                embeddedKafkaBroker.getBrokersAsString()))) {
+            long deadline = System.currentTimeMillis() + 10_000;
+            long offset = -1;
+            while (offset != MESSAGE_COUNT + 1 && System.currentTimeMillis() < deadline) {
+                OffsetAndMetadata offsetAndMetadata = adminClient
+                        .listConsumerGroupOffsets("restaurant-approval-topic-consumer")
+                        .partitionsToOffsetAndMetadata().get()
+                        .get(new TopicPartition("restaurant-approval-response", 0));
+                offset = offsetAndMetadata == null ? -1 : offsetAndMetadata.offset();
+                if (offset != MESSAGE_COUNT + 1) {
+                    Thread.sleep(100);
+                }
+            }
+            return offset;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.event.OrderEventPayload;
+import com.food.ordering.system.order.service.domain.event.OrderEventProduct;
+import com.food.ordering.system.order.service.messaging.MessagingTestConfiguration;
+import com.food.ordering.system.order.service.messaging.codec.OrderEventBinaryCodec;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = MessagingTestConfiguration.class)
+@EmbeddedKafka(partitions = 1, topics = {"payment-response", "restaurant-approval-response", "payment-request"})
+public class OrderCreatedPaymentRequestKafkaPublisherTest {
+
+    private static final int ORDER_COUNT = 10;
+    private static final int EVENTS_PER_ORDER = 20;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+    @Autowired
+    private OrderCreatedPaymentRequestKafkaPublisher orderCreatedPaymentRequestKafkaPublisher;
+    @Autowired
+    private OrderEventBinaryCodec orderEventBinaryCodec;
+
+    @Test
+    public void testPipelinedEventsArriveInOrderPerKey() throws Exception {
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orderIds.add(UUID.randomUUID());
+        }
+        Map<UUID, List<Instant>> sent = new HashMap<>();
+        List<CompletableFuture<Void>> acknowledgements = new ArrayList<>();
+        Instant createdAt = Instant.parse("2024-03-01T12:00:00Z");
+        for (int event = 0; event < EVENTS_PER_ORDER; event++) {
+            for (UUID orderId : orderIds) {
+                Instant eventCreatedAt = createdAt.plusSeconds(event);
+                sent.computeIfAbsent(orderId, key -> new ArrayList<>()).add(eventCreatedAt);
+                acknowledgements.add(orderCreatedPaymentRequestKafkaPublisher.publishAsync(new OrderEventPayload(
+                        orderId, UUID.randomUUID(), UUID.randomUUID(), new Money(new BigDecimal("50.00")),
+                        OrderStatus.PENDING, eventCreatedAt, List.of(new OrderEventProduct(UUID.randomUUID(), 1)),
+                        List.of())));
+            }
+        }
+        CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        assertEquals(0, orderCreatedPaymentRequestKafkaPublisher.outstanding());
+
+        Map<UUID, List<Instant>> received = new HashMap<>();
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("payment-request-test", "false",
+                embeddedKafkaBroker);
+        try (Consumer<String, byte[]> consumer = new DefaultKafkaConsumerFactory<>(consumerProps,
+                new StringDeserializer(), new ByteArrayDeserializer()).createConsumer()) {
+            embeddedKafkaBroker.consumeFromAnEmbeddedTopic(consumer, "payment-request");
+            long deadline = System.currentTimeMillis() + 30_000;
+            int count = 0;
+            while (count < ORDER_COUNT * EVENTS_PER_ORDER && System.currentTimeMillis() < deadline) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(Duration.ofMillis(500));
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    OrderEventPayload payload = orderEventBinaryCodec.decode(record.value());
+                    assertEquals(record.key(), payload.orderId().toString());
+                    received.computeIfAbsent(payload.orderId(), key -> new ArrayList<>()).add(payload.createdAt());
+                    count++;
+                }
+            }
+        }
+
+        assertEquals(sent, received);
+    }
+}